@@ -13,7 +13,7 @@ import {
 } from '@mui/material';
 import { EmptyState, ErrorState, LoadingSkeleton, PageHeader } from '@mfe/ui-kit';
 import { useEffect, useState } from 'react';
-import { fetchCanaryFlags, updateCanaryFlag } from './registry';
+import { ApiError, fetchCanaryFlags, updateCanaryFlag } from './registry';
 import type { CanaryFlag } from './types';
 
 type CanaryControlPageProps = {
@@ -58,10 +58,18 @@ export function CanaryControlPage({ accessToken, onFlagsSaved }: CanaryControlPa
     setSaving(flag.remoteId);
     setError(null);
     try {
-      const updated = await updateCanaryFlag(accessToken, flag.remoteId, flag.enabled, flag.rolloutPercentage);
+      const updated = await updateCanaryFlag(accessToken, flag);
       setFlags((previous) => previous.map((item) => (item.remoteId === updated.remoteId ? updated : item)));
       onFlagsSaved();
     } catch (saveError) {
+      if (saveError instanceof ApiError && saveError.status === 412) {
+        const latest = await fetchCanaryFlags(accessToken).catch(() => null);
+        if (latest) {
+          setFlags(latest);
+        }
+        setError(`${flag.remoteId} was changed by another admin. The latest values have been reloaded; review them and save again.`);
+        return;
+      }
       setError(saveError instanceof Error ? saveError.message : 'Failed to save canary flag');
     } finally {
       setSaving(null);
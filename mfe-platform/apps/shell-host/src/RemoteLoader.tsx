@@ -136,6 +136,17 @@ export function RemoteLoader({ route, userId, accessToken }: RemoteLoaderProps)
           variant: isCanaryCandidate ? 'canary' : 'stable',
           url: preferred.url
         });
+        // Opens this session's funnel for the remote; the registry closes it on the outcome events below.
+        void postTelemetryEvent(accessToken, {
+          eventType: 'REMOTE_LOAD_ATTEMPT',
+          remoteId: route.remote.scope,
+          routeId: route.id,
+          level: 'INFO',
+          metadata: {
+            variant: isCanaryCandidate ? 'canary' : 'stable',
+            version: preferred.version
+          }
+        });
 
         const retrySchedule = createRetrySchedule(3, 500, 4000);
         for (let attempt = 0; attempt <= retrySchedule.length; attempt += 1) {
@@ -225,6 +236,17 @@ export function RemoteLoader({ route, userId, accessToken }: RemoteLoaderProps)
                   scope: route.remote.scope,
                   version: fallback.version
                 });
+                void postTelemetryEvent(accessToken, {
+                  eventType: 'REMOTE_LOAD_FALLBACK_SUCCESS',
+                  remoteId: route.remote.scope,
+                  routeId: route.id,
+                  level: 'INFO',
+                  durationMs: Math.round(performance.now() - startedAt),
+                  metadata: {
+                    variant: 'canary',
+                    version: fallback.version
+                  }
+                });
 
                 return { default: fallbackComponent };
               } catch (fallbackError) {
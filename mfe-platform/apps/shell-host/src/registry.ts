@@ -13,6 +13,9 @@ const TELEMETRY_URL = `${API_BASE_URL}/telemetry`;
 const ADMIN_TELEMETRY_URL = `${API_BASE_URL}/admin/telemetry`;
 const API_REQUEST_TIMEOUT_MS = 12_000;
 
+// Set from Retry-After when the registry sheds telemetry; events are dropped until then instead of piling on.
+let telemetryPausedUntil = 0;
+
 let clientContext: ClientContext = {
   sessionId: 'session-unknown',
   userId: 'anonymous'
@@ -25,10 +28,21 @@ export function setClientContext(context: ClientContext): void {
 type ApiRequestOptions = {
   method?: 'GET' | 'POST' | 'PUT';
   accessToken?: string;
+  headers?: Record<string, string>;
   body?: unknown;
   timeoutMs?: number;
 };
 
+export class ApiError extends Error {
+  readonly status: number;
+
+  constructor(message: string, status: number) {
+    super(message);
+    this.name = 'ApiError';
+    this.status = status;
+  }
+}
+
 async function apiRequest<T>(url: string, options: ApiRequestOptions = {}): Promise<T> {
   const requestId = createRequestId();
   const correlationId = requestId;
@@ -44,7 +58,8 @@ async function apiRequest<T>(url: string, options: ApiRequestOptions = {}): Prom
     'X-Session-Id': clientContext.sessionId,
     'X-Request-Id': requestId,
     'X-Correlation-Id': correlationId,
-    'X-User-Id': clientContext.userId
+    'X-User-Id': clientContext.userId,
+    ...options.headers
   };
 
   if (options.accessToken) {
@@ -86,7 +101,7 @@ async function apiRequest<T>(url: string, options: ApiRequestOptions = {}): Prom
   });
 
   if (!response.ok) {
-    throw new Error(`Request failed: ${response.status} ${response.statusText}`);
+    throw new ApiError(`Request failed: ${response.status} ${response.statusText}`, response.status);
   }
 
   return (await response.json()) as T;
@@ -117,15 +132,21 @@ export async function fetchCanaryFlags(accessToken: string): Promise<CanaryFlag[
   });
 }
 
-export async function updateCanaryFlag(accessToken: string, remoteId: string, enabled: boolean, rolloutPercentage: number): Promise<CanaryFlag> {
-  return apiRequest<CanaryFlag>(`${CANARY_FLAGS_URL}/${remoteId}`, {
+// Sends the version the admin edited as If-Match; the registry answers 412 if someone else saved in between.
+export async function updateCanaryFlag(accessToken: string, flag: CanaryFlag): Promise<CanaryFlag> {
+  return apiRequest<CanaryFlag>(`${CANARY_FLAGS_URL}/${flag.remoteId}`, {
     method: 'PUT',
     accessToken,
-    body: { enabled, rolloutPercentage }
+    headers: { 'If-Match': `"${flag.version}"` },
+    body: { enabled: flag.enabled, rolloutPercentage: flag.rolloutPercentage }
   });
 }
 
 export async function postTelemetryEvent(accessToken: string | null, event: TelemetryEventInput): Promise<void> {
+  if (Date.now() < telemetryPausedUntil) {
+    return;
+  }
+
   const requestId = createRequestId();
   const headers: Record<string, string> = {
     'Content-Type': 'application/json',
@@ -139,11 +160,15 @@ export async function postTelemetryEvent(accessToken: string | null, event: Tele
     headers.Authorization = `Bearer ${accessToken}`;
   }
 
-  await fetch(TELEMETRY_URL, {
+  const response = await fetch(TELEMETRY_URL, {
     method: 'POST',
     headers,
     body: JSON.stringify(event)
   });
+  if (response.status === 429) {
+    const retryAfterSeconds = Number(response.headers.get('Retry-After'));
+    telemetryPausedUntil = Date.now() + (Number.isFinite(retryAfterSeconds) && retryAfterSeconds > 0 ? retryAfterSeconds : 1) * 1000;
+  }
 }
 
 export async function fetchAdminTelemetry(accessToken: string): Promise<TelemetryRecord[]> {
@@ -0,0 +1,21 @@
+import { describe, expect, it } from 'vitest';
+import { hashToPercentage, isInCanaryRollout } from './rollout';
+
+// The same vectors are pinned in the registry's CanaryRolloutTest, which serves GET /api/registry/resolved.
+describe('canary rollout bucketing', () => {
+  it('hashes like the registry', () => {
+    expect(hashToPercentage('anonymous:remote-accounts')).toBe(56);
+    expect(hashToPercentage('admin:remote-billing')).toBe(95);
+    expect(hashToPercentage('user-1:remote-analytics')).toBe(2);
+    expect(hashToPercentage('')).toBe(0);
+    expect(hashToPercentage('ünïcode-user:remote-accounts')).toBe(49);
+    expect(hashToPercentage('a-much-longer-user-identifier-that-overflows:remote-billing')).toBe(81);
+  });
+
+  it('clamps rollout percentage', () => {
+    expect(isInCanaryRollout('user-1', 'remote-analytics', 3)).toBe(true);
+    expect(isInCanaryRollout('user-1', 'remote-analytics', 2)).toBe(false);
+    expect(isInCanaryRollout('admin', 'remote-billing', 150)).toBe(true);
+    expect(isInCanaryRollout('user-1', 'remote-analytics', -5)).toBe(false);
+  });
+});
@@ -62,6 +62,7 @@ export type CanaryFlag = {
   remoteId: string;
   enabled: boolean;
   rolloutPercentage: number;
+  version: number;
 };
 
 export type ClientContext = {
@@ -0,0 +1,167 @@
+import { execFile, spawn } from 'node:child_process';
+import fs from 'node:fs/promises';
+import os from 'node:os';
+import path from 'node:path';
+import { fileURLToPath } from 'node:url';
+import { promisify } from 'node:util';
+
+const __filename = fileURLToPath(import.meta.url);
+const __dirname = path.dirname(__filename);
+const repoRoot = path.resolve(__dirname, '../..');
+const targetDir = path.resolve(repoRoot, 'services/app-registry/target');
+
+function parseArgs(argv) {
+  const options = {
+    java: 'java',
+    jar: path.join(targetDir, 'app-registry-1.0.0.jar'),
+    fastStartDir: path.join(targetDir, 'fast-start'),
+    port: 18091,
+    runs: 5,
+    modes: ['default', 'lazy', 'cds', 'fast-start'],
+    out: null
+  };
+
+  for (let index = 0; index < argv.length; index += 2) {
+    const value = argv[index + 1];
+    switch (argv[index]) {
+      case '--java': options.java = value; break;
+      case '--jar': options.jar = path.resolve(value); break;
+      case '--fast-start-dir': options.fastStartDir = path.resolve(value); break;
+      case '--port': options.port = Number(value); break;
+      case '--runs': options.runs = Number(value); break;
+      case '--modes': options.modes = value.split(','); break;
+      case '--out': options.out = path.resolve(value); break;
+      default:
+        throw new Error(`Unknown option ${argv[index]}`);
+    }
+  }
+  return options;
+}
+
+// lazy and cds isolate one ingredient each; fast-start is what the fast-start Maven profile is built for.
+function commandFor(options, mode) {
+  const extractedJar = path.join(options.fastStartDir, path.basename(options.jar));
+  const archive = path.join(options.fastStartDir, 'app-registry.jsa');
+  switch (mode) {
+    case 'default':
+      return ['-jar', options.jar];
+    case 'lazy':
+      return ['-Dspring.profiles.active=fast-start', '-jar', options.jar];
+    case 'cds':
+      return [`-XX:SharedArchiveFile=${archive}`, '-jar', extractedJar];
+    case 'fast-start':
+      return [
+        `-XX:SharedArchiveFile=${archive}`,
+        '-Dspring.aot.enabled=true',
+        '-Dspring.profiles.active=fast-start',
+        '-jar',
+        extractedJar
+      ];
+    default:
+      throw new Error(`Unknown mode ${mode}`);
+  }
+}
+
+const POLL_INTERVAL_MS = 5;
+const STARTUP_TIMEOUT_MS = 60_000;
+
+const sleep = (ms) => new Promise((resolve) => setTimeout(resolve, ms));
+
+async function firstOk(url, startedAt, child) {
+  while (performance.now() - startedAt < STARTUP_TIMEOUT_MS) {
+    if (child.exitCode !== null) {
+      throw new Error(`Registry exited with ${child.exitCode} during startup`);
+    }
+    try {
+      const response = await fetch(url, { signal: AbortSignal.timeout(1_000) });
+      await response.arrayBuffer();
+      if (response.ok) {
+        return performance.now() - startedAt;
+      }
+    } catch {
+      // Not listening yet.
+    }
+    await sleep(POLL_INTERVAL_MS);
+  }
+  throw new Error(`${url} did not answer within ${STARTUP_TIMEOUT_MS / 1000}s`);
+}
+
+async function residentSetMb(pid) {
+  try {
+    const status = await fs.readFile(`/proc/${pid}/status`, 'utf8');
+    const kilobytes = Number(/VmRSS:\s+(\d+)/.exec(status)[1]);
+    return Math.round(kilobytes / 1024);
+  } catch {
+    // Not Linux: ask ps, which reports kilobytes on macOS and the BSDs.
+    try {
+      const { stdout } = await promisify(execFile)('ps', ['-o', 'rss=', '-p', String(pid)]);
+      return Math.round(Number(stdout.trim()) / 1024);
+    } catch {
+      return null;
+    }
+  }
+}
+
+async function runOnce(options, mode) {
+  // A fresh working directory per run, so no ./data state carries over between runs.
+  const workDir = await fs.mkdtemp(path.join(os.tmpdir(), 'registry-startup-'));
+  const baseUrl = `http://localhost:${options.port}`;
+  const startedAt = performance.now();
+  const child = spawn(options.java, [`-Dserver.port=${options.port}`, ...commandFor(options, mode)], {
+    cwd: workDir,
+    stdio: 'ignore'
+  });
+
+  try {
+    const registryMs = await firstOk(`${baseUrl}/api/registry`, startedAt, child);
+    const readyMs = await firstOk(`${baseUrl}/api/registry/health`, startedAt, child);
+    // Let startup garbage settle into the steady resident set before sampling it.
+    await sleep(1_000);
+    return { registryMs, readyMs, rssMb: await residentSetMb(child.pid) };
+  } finally {
+    child.kill('SIGTERM');
+    await new Promise((resolve) => (child.exitCode !== null ? resolve() : child.once('exit', resolve)));
+    await fs.rm(workDir, { recursive: true, force: true });
+  }
+}
+
+function median(values) {
+  const sorted = values.filter((value) => value !== null).sort((left, right) => left - right);
+  return sorted.length === 0 ? null : sorted[Math.floor(sorted.length / 2)];
+}
+
+const options = parseArgs(process.argv.slice(2));
+process.once('SIGINT', () => process.exit(130));
+
+const results = {};
+for (const mode of options.modes) {
+  const runs = [];
+  // One discarded run per mode warms the OS page cache for its jar and archive.
+  await runOnce(options, mode);
+  for (let run = 0; run < options.runs; run++) {
+    runs.push(await runOnce(options, mode));
+  }
+  results[mode] = {
+    registryMs: Math.round(median(runs.map((run) => run.registryMs))),
+    readyMs: Math.round(median(runs.map((run) => run.readyMs))),
+    rssMb: median(runs.map((run) => run.rssMb)),
+    runs
+  };
+  console.log(`[compare-startup-modes] ${mode}: ${JSON.stringify(runs.map((run) => Math.round(run.registryMs)))} ms`);
+}
+
+console.log(`\nruns=${options.runs} java=${options.java} (medians)`);
+console.log('mode         first /api/registry ms   ready ms   rss MB');
+for (const [mode, row] of Object.entries(results)) {
+  console.log([
+    mode.padEnd(12),
+    String(row.registryMs).padStart(22),
+    String(row.readyMs).padStart(10),
+    String(row.rssMb ?? '-').padStart(8)
+  ].join(' '));
+}
+
+if (options.out) {
+  await fs.writeFile(options.out, JSON.stringify({ options, results }, null, 2));
+  console.log(`\n[compare-startup-modes] Results written to ${options.out}`);
+}
@@ -0,0 +1,222 @@
+import { spawn } from 'node:child_process';
+import fs from 'node:fs/promises';
+import path from 'node:path';
+import { fileURLToPath } from 'node:url';
+
+const __filename = fileURLToPath(import.meta.url);
+const __dirname = path.dirname(__filename);
+const repoRoot = path.resolve(__dirname, '../..');
+
+function parseArgs(argv) {
+  const options = {
+    java: process.env.JAVA_21_HOME ? path.join(process.env.JAVA_21_HOME, 'bin/java') : 'java',
+    jar: path.resolve(repoRoot, 'services/app-registry/target/app-registry-1.0.0.jar'),
+    port: 18090,
+    concurrency: 1000,
+    warmupSeconds: 10,
+    durationSeconds: 30,
+    modes: ['platform', 'virtual'],
+    out: null
+  };
+
+  for (let index = 0; index < argv.length; index += 2) {
+    const value = argv[index + 1];
+    switch (argv[index]) {
+      case '--java': options.java = value; break;
+      case '--jar': options.jar = path.resolve(value); break;
+      case '--port': options.port = Number(value); break;
+      case '--concurrency': options.concurrency = Number(value); break;
+      case '--warmup': options.warmupSeconds = Number(value); break;
+      case '--duration': options.durationSeconds = Number(value); break;
+      case '--modes': options.modes = value.split(','); break;
+      case '--out': options.out = path.resolve(value); break;
+      default:
+        throw new Error(`Unknown option ${argv[index]}`);
+    }
+  }
+  return options;
+}
+
+const REQUEST_TIMEOUT_MS = 10_000;
+
+const sleep = (ms) => new Promise((resolve) => setTimeout(resolve, ms));
+
+async function startRegistry(options, mode) {
+  const child = spawn(options.java, [
+    '-Xmx1g',
+    `-Dserver.port=${options.port}`,
+    `-Dspring.threads.virtual.enabled=${mode === 'virtual'}`,
+    '-jar',
+    options.jar
+  ], { stdio: ['ignore', 'pipe', 'pipe'] });
+  process.once('exit', () => child.kill('SIGKILL'));
+  process.once('SIGINT', () => process.exit(130));
+  process.once('SIGTERM', () => process.exit(143));
+
+  let output = '';
+  child.stdout.on('data', (chunk) => { output += chunk; });
+  child.stderr.on('data', (chunk) => { output += chunk; });
+
+  const deadline = Date.now() + 60_000;
+  while (Date.now() < deadline) {
+    if (child.exitCode !== null) {
+      throw new Error(`Registry exited during startup:\n${output}`);
+    }
+    try {
+      const response = await fetch(`http://localhost:${options.port}/api/registry/health`);
+      const modeLine = output.split('\n').find((line) => line.includes('threading_mode'));
+      if (response.ok && modeLine) {
+        return { child, modeLine: modeLine.replace(/^.*events\s*:\s*/, '') };
+      }
+    } catch {
+      // Not listening yet.
+    }
+    await sleep(250);
+  }
+  child.kill('SIGKILL');
+  throw new Error('Registry did not become healthy within 60s');
+}
+
+async function stopRegistry(child) {
+  child.kill('SIGTERM');
+  await new Promise((resolve) => child.once('exit', resolve));
+}
+
+function telemetryEvent(clientId, sequence) {
+  return JSON.stringify({
+    eventType: sequence % 10 === 0 ? 'REMOTE_LOAD_FAILURE' : 'REMOTE_LOAD_SUCCESS',
+    remoteId: 'remote_billing',
+    routeId: 'remote-billing',
+    level: sequence % 10 === 0 ? 'ERROR' : 'INFO',
+    durationMs: 20 + (sequence % 300),
+    metadata: { variant: clientId % 4 === 0 ? 'canary' : 'stable' }
+  });
+}
+
+// Each simulated client replays a shell boot: login, resolved manifest, a burst of telemetry; every 20th
+// client is an operator polling the admin telemetry view.
+async function runClient(baseUrl, clientId, stopAt, recordSample) {
+  let sequence = 0;
+  while (Date.now() < stopAt) {
+    const timed = async (name, request) => {
+      const started = performance.now();
+      try {
+        const response = await request(AbortSignal.timeout(REQUEST_TIMEOUT_MS));
+        const body = await response.text();
+        recordSample(name, performance.now() - started, response.ok || response.status === 304);
+        return { ok: response.ok, body };
+      } catch {
+        recordSample(name, performance.now() - started, false);
+        return null;
+      }
+    };
+
+    const headers = { 'Content-Type': 'application/json', 'X-Session-Id': `load-session-${clientId}` };
+    const login = await timed('login', (signal) => fetch(`${baseUrl}/api/auth/login`, {
+      signal,
+      method: 'POST',
+      headers,
+      body: JSON.stringify({ username: clientId % 20 === 0 ? 'admin' : `user-${clientId}` })
+    }));
+    const token = login?.ok ? JSON.parse(login.body).accessToken : null;
+    const authHeaders = token ? { ...headers, Authorization: `Bearer ${token}` } : headers;
+
+    await timed('resolved', (signal) => fetch(`${baseUrl}/api/registry/resolved`, { signal, headers: authHeaders }));
+    for (let burst = 0; burst < 5; burst++) {
+      sequence++;
+      await timed('telemetry', (signal) => fetch(`${baseUrl}/api/telemetry`, {
+        signal,
+        method: 'POST',
+        headers: authHeaders,
+        body: telemetryEvent(clientId, sequence)
+      }));
+    }
+    if (clientId % 20 === 0) {
+      await timed('admin-telemetry', (signal) => fetch(`${baseUrl}/api/admin/telemetry?limit=100`, { signal, headers: authHeaders }));
+    }
+  }
+}
+
+function percentile(sorted, quantile) {
+  if (sorted.length === 0) {
+    return 0;
+  }
+  return sorted[Math.min(sorted.length - 1, Math.floor(quantile * sorted.length))];
+}
+
+function summarize(samples, seconds) {
+  const summary = {};
+  for (const [name, entry] of Object.entries(samples)) {
+    const sorted = Float64Array.from(entry.latencies).sort();
+    summary[name] = {
+      requests: sorted.length,
+      errors: entry.errors,
+      throughput: Math.round(sorted.length / seconds),
+      p50: Number(percentile(sorted, 0.5).toFixed(2)),
+      p99: Number(percentile(sorted, 0.99).toFixed(2)),
+      p999: Number(percentile(sorted, 0.999).toFixed(2)),
+      max: Number((sorted[sorted.length - 1] ?? 0).toFixed(2))
+    };
+  }
+  return summary;
+}
+
+async function runMode(options, mode) {
+  const { child, modeLine } = await startRegistry(options, mode);
+  console.log(`[compare-thread-modes] ${mode}: ${modeLine}`);
+  const baseUrl = `http://localhost:${options.port}`;
+
+  try {
+    let samples = {};
+    let recording = false;
+    const recordSample = (name, latencyMs, ok) => {
+      if (!recording) {
+        return;
+      }
+      const entry = samples[name] ?? (samples[name] = { latencies: [], errors: 0 });
+      entry.latencies.push(latencyMs);
+      if (!ok) {
+        entry.errors++;
+      }
+    };
+
+    const stopAt = Date.now() + (options.warmupSeconds + options.durationSeconds) * 1000;
+    const clients = Array.from({ length: options.concurrency }, (_, clientId) => runClient(baseUrl, clientId, stopAt, recordSample));
+    await sleep(options.warmupSeconds * 1000);
+    samples = {};
+    recording = true;
+    const measuredFrom = performance.now();
+    await Promise.all(clients);
+    return summarize(samples, (performance.now() - measuredFrom) / 1000);
+  } finally {
+    await stopRegistry(child);
+  }
+}
+
+const options = parseArgs(process.argv.slice(2));
+const results = {};
+for (const mode of options.modes) {
+  results[mode] = await runMode(options, mode);
+}
+
+console.log(`\nconcurrency=${options.concurrency} duration=${options.durationSeconds}s java=${options.java}`);
+console.log('mode      endpoint         req/s     p50 ms   p99 ms   p99.9 ms  max ms   errors');
+for (const [mode, summary] of Object.entries(results)) {
+  for (const [name, row] of Object.entries(summary)) {
+    console.log([
+      mode.padEnd(9),
+      name.padEnd(16),
+      String(row.throughput).padStart(6),
+      String(row.p50).padStart(9),
+      String(row.p99).padStart(8),
+      String(row.p999).padStart(10),
+      String(row.max).padStart(8),
+      String(row.errors).padStart(8)
+    ].join(' '));
+  }
+}
+
+if (options.out) {
+  await fs.writeFile(options.out, JSON.stringify({ options, results }, null, 2));
+  console.log(`\n[compare-thread-modes] Results written to ${options.out}`);
+}
@@ -0,0 +1,58 @@
+import fs from 'node:fs/promises';
+import path from 'node:path';
+import zlib from 'node:zlib';
+import { fileURLToPath } from 'node:url';
+
+const __filename = fileURLToPath(import.meta.url);
+const __dirname = path.dirname(__filename);
+const repoRoot = path.resolve(__dirname, '../..');
+
+const springStaticDir = path.resolve(repoRoot, 'services/app-registry/src/main/resources/static');
+const compressibleExtensions = new Set(['.js', '.mjs', '.css', '.html', '.json', '.svg', '.txt', '.xml', '.wasm']);
+const minBytes = 1024;
+
+async function* walk(dir) {
+  for (const entry of await fs.readdir(dir, { withFileTypes: true })) {
+    const fullPath = path.resolve(dir, entry.name);
+    if (entry.isDirectory()) {
+      yield* walk(fullPath);
+    } else {
+      yield fullPath;
+    }
+  }
+}
+
+// Writes .br and .gz siblings at maximum compression. app-registry serves them by Accept-Encoding and only
+// compresses gzip itself at startup for files that arrive without one.
+async function precompress(file) {
+  const content = await fs.readFile(file);
+  if (content.length < minBytes) {
+    return 0;
+  }
+
+  const brotli = zlib.brotliCompressSync(content, {
+    params: {
+      [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+      [zlib.constants.BROTLI_PARAM_SIZE_HINT]: content.length
+    }
+  });
+  const gzip = zlib.gzipSync(content, { level: zlib.constants.Z_BEST_COMPRESSION });
+  await fs.writeFile(`${file}.br`, brotli);
+  await fs.writeFile(`${file}.gz`, gzip);
+  return 1;
+}
+
+async function run() {
+  let count = 0;
+  for await (const file of walk(springStaticDir)) {
+    if (compressibleExtensions.has(path.extname(file))) {
+      count += await precompress(file);
+    }
+  }
+  console.log(`[precompress] Wrote .br/.gz variants for ${count} files in ${springStaticDir}`);
+}
+
+run().catch((error) => {
+  console.error('[precompress] Failed:', error instanceof Error ? error.message : error);
+  process.exit(1);
+});
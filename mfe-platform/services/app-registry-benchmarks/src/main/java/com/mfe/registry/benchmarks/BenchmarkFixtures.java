@@ -0,0 +1,109 @@
+package com.mfe.registry.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mfe.registry.auth.AdminAuthorizationService;
+import com.mfe.registry.auth.JwtService;
+import com.mfe.registry.BackgroundThreads;
+import com.mfe.registry.logging.StructuredEventLogger;
+import com.mfe.registry.logging.StructuredLoggingProperties;
+import com.mfe.registry.metrics.EndpointTimers;
+import com.mfe.registry.tracing.RequestTracingProperties;
+import com.mfe.registry.tracing.SlowTraceBuffer;
+import com.mfe.registry.web.RouteCatalog;
+import com.mfe.registry.web.RouteCatalogProperties;
+import com.mfe.registry.web.TelemetryController;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.env.MockEnvironment;
+
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "benchmark-super-secret-signing-key-of-sufficient-length";
+
+    private static final MeterRegistry METER_REGISTRY = new SimpleMeterRegistry();
+
+    private BenchmarkFixtures() {
+    }
+
+    static BackgroundThreads backgroundThreads() {
+        return new BackgroundThreads(new MockEnvironment());
+    }
+
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    static RouteCatalog routeCatalog(ObjectMapper objectMapper) {
+        MockEnvironment environment = new MockEnvironment();
+        for (String remote : List.of("accounts", "billing", "analytics")) {
+            String url = "/remotes/remote-" + remote + "/assets/remoteEntry.js";
+            environment.setProperty("app.registry.remotes." + remote + "-stable-url", url);
+            environment.setProperty("app.registry.remotes." + remote + "-canary-url", url);
+        }
+        return new RouteCatalog(
+                new RouteCatalogProperties("classpath:registry-routes.json", Duration.ZERO),
+                new DefaultResourceLoader(),
+                environment,
+                objectMapper,
+                eventLogger(),
+                backgroundThreads()
+        );
+    }
+
+    static JwtService jwtService(int cacheMaxEntries) {
+        return new JwtService(JWT_SECRET, 60, cacheMaxEntries, METER_REGISTRY);
+    }
+
+    static AdminAuthorizationService adminAuthorizationService(JwtService jwtService) {
+        return new AdminAuthorizationService(jwtService);
+    }
+
+    static EndpointTimers endpointTimers() {
+        return new EndpointTimers(METER_REGISTRY);
+    }
+
+    static RequestTracingProperties tracingProperties(boolean serverTiming) {
+        return new RequestTracingProperties(serverTiming, "http://localhost:5173", 50);
+    }
+
+    static SlowTraceBuffer slowTraceBuffer() {
+        return new SlowTraceBuffer(tracingProperties(true));
+    }
+
+    static StructuredEventLogger eventLogger() {
+        return new StructuredEventLogger(new StructuredLoggingProperties(
+                8192,
+                StructuredLoggingProperties.OverflowPolicy.DROP,
+                List.of(new StructuredLoggingProperties.SamplingRule("http_request", "/api/telemetry", 0.01))
+        ), backgroundThreads());
+    }
+
+    static TelemetryController.TelemetryRecord[] telemetryRecords(int count, int correlationIds) {
+        TelemetryController.TelemetryRecord[] records = new TelemetryController.TelemetryRecord[count];
+        String timestamp = Instant.now().toString();
+        String[] remotes = {"remote_accounts", "remote_billing", "remote_analytics"};
+        for (int index = 0; index < count; index++) {
+            records[index] = new TelemetryController.TelemetryRecord(
+                    timestamp,
+                    "corr-" + (index % correlationIds),
+                    "req-" + index,
+                    "session-" + (index % 1024),
+                    "user-" + (index % 64),
+                    index % 10 == 0 ? "REMOTE_LOAD_FAILURE" : "REMOTE_LOAD_SUCCESS",
+                    remotes[index % remotes.length],
+                    remotes[index % remotes.length].replace('_', '-'),
+                    index % 10 == 0 ? "ERROR" : "INFO",
+                    (long) (index % 500),
+                    null,
+                    Map.of("variant", index % 2 == 0 ? "stable" : "canary")
+            );
+        }
+        return records;
+    }
+}
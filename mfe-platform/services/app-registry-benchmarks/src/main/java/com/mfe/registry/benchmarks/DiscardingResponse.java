@@ -0,0 +1,60 @@
+package com.mfe.registry.benchmarks;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+final class DiscardingResponse extends HttpServletResponseWrapper {
+
+    private final MockHttpServletResponse delegate;
+    private final CountingOutputStream body = new CountingOutputStream();
+
+    DiscardingResponse() {
+        this(new MockHttpServletResponse());
+    }
+
+    private DiscardingResponse(MockHttpServletResponse delegate) {
+        super(delegate);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        return body;
+    }
+
+    @Override
+    public void reset() {
+        delegate.reset();
+        body.bytes = 0;
+    }
+
+    long bodyBytes() {
+        return body.bytes;
+    }
+
+    private static final class CountingOutputStream extends ServletOutputStream {
+
+        private long bytes;
+
+        @Override
+        public void write(int value) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            bytes += length;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.mfe.registry.benchmarks;
+
+import com.mfe.registry.auth.JwtService;
+import io.jsonwebtoken.Claims;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtBenchmark {
+
+    private static final List<String> ROLES = List.of("ADMIN", "USER");
+
+    @State(Scope.Benchmark)
+    public static class JwtState {
+
+        JwtService cachedService;
+        JwtService uncachedService;
+        String token;
+
+        @Setup
+        public void setUp() {
+            cachedService = BenchmarkFixtures.jwtService(10_000);
+            uncachedService = BenchmarkFixtures.jwtService(0);
+            token = cachedService.issueToken("admin", ROLES);
+        }
+    }
+
+    @Benchmark
+    public String issueToken(JwtState state) {
+        return state.cachedService.issueToken("admin", ROLES);
+    }
+
+    @Benchmark
+    public Claims validateCached(JwtState state) {
+        return state.cachedService.validate(state.token);
+    }
+
+    @Benchmark
+    public Claims validateUncached(JwtState state) {
+        return state.uncachedService.validate(state.token);
+    }
+}
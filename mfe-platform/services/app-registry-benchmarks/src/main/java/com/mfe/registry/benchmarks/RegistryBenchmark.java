@@ -0,0 +1,119 @@
+package com.mfe.registry.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mfe.registry.auth.JwtService;
+import com.mfe.registry.web.InMemoryCanaryFlagStore;
+import com.mfe.registry.web.RegistryController;
+import com.mfe.registry.web.RegistryEventStream;
+import com.mfe.registry.web.RegistryStreamProperties;
+import com.mfe.registry.web.RegistrySnapshotStore;
+import com.mfe.registry.web.ResolvedManifestCache;
+import com.mfe.registry.web.RouteCatalog;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegistryBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class RegistryState {
+
+        ObjectMapper objectMapper;
+        RegistrySnapshotStore snapshotStore;
+        RegistryController controller;
+        String etag;
+        String bearerToken;
+
+        @Setup
+        public void setUp() {
+            objectMapper = BenchmarkFixtures.objectMapper();
+            JwtService jwtService = BenchmarkFixtures.jwtService(10_000);
+            RouteCatalog routeCatalog = BenchmarkFixtures.routeCatalog(objectMapper);
+            snapshotStore = new RegistrySnapshotStore(
+                    objectMapper,
+                    routeCatalog,
+                    new InMemoryCanaryFlagStore()
+            );
+            snapshotStore.updateCanaryFlag("remote-billing", true, 25);
+            controller = new RegistryController(
+                    BenchmarkFixtures.adminAuthorizationService(jwtService),
+                    snapshotStore,
+                    new ResolvedManifestCache(snapshotStore, objectMapper),
+                    new RegistryEventStream(
+                            objectMapper,
+                            new RegistryStreamProperties(Duration.ofSeconds(15), Duration.ofSeconds(5), 0),
+                            snapshotStore,
+                            BenchmarkFixtures.backgroundThreads()
+                    ),
+                    routeCatalog,
+                    new ApplicationAvailabilityBean(),
+                    BenchmarkFixtures.eventLogger()
+            );
+            etag = snapshotStore.current().encoded().etag();
+            bearerToken = "Bearer " + jwtService.issueToken("bench-user", List.of("USER"));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ResponseState {
+
+        DiscardingResponse response;
+
+        @Setup(Level.Trial)
+        public void create() {
+            response = new DiscardingResponse();
+        }
+
+        DiscardingResponse next() {
+            response.reset();
+            return response;
+        }
+    }
+
+    @Benchmark
+    public long snapshotJson(RegistryState state, ResponseState response) throws IOException {
+        state.controller.getRegistry(null, null, response.next());
+        return response.response.bodyBytes();
+    }
+
+    @Benchmark
+    public long snapshotGzip(RegistryState state, ResponseState response) throws IOException {
+        state.controller.getRegistry(null, "gzip, deflate, br", response.next());
+        return response.response.bodyBytes();
+    }
+
+    @Benchmark
+    public long snapshotNotModified(RegistryState state, ResponseState response) throws IOException {
+        state.controller.getRegistry(state.etag, "gzip", response.next());
+        return response.response.bodyBytes();
+    }
+
+    @Benchmark
+    public byte[] jacksonSerializeRegistry(RegistryState state) throws IOException {
+        return state.objectMapper.writeValueAsBytes(state.snapshotStore.current().response());
+    }
+
+    @Benchmark
+    public long resolvedManifest(RegistryState state, ResponseState response) throws IOException {
+        state.controller.getResolvedManifest(state.bearerToken, null, null, response.next());
+        return response.response.bodyBytes();
+    }
+}
@@ -0,0 +1,110 @@
+package com.mfe.registry.benchmarks;
+
+import com.mfe.registry.tracing.RequestIds;
+import com.mfe.registry.tracing.RequestTrace;
+import com.mfe.registry.web.RequestCorrelationFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestCorrelationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @State(Scope.Benchmark)
+    public static class FilterState {
+
+        @Param({"true", "false"})
+        boolean serverTiming;
+
+        RequestCorrelationFilter filter;
+
+        @Setup
+        public void setUp() {
+            filter = new RequestCorrelationFilter(
+                    BenchmarkFixtures.eventLogger(),
+                    BenchmarkFixtures.endpointTimers(),
+                    BenchmarkFixtures.slowTraceBuffer(),
+                    BenchmarkFixtures.tracingProperties(serverTiming)
+            );
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ExchangeState {
+
+        @Param({"/api/registry", "/api/telemetry"})
+        String path;
+
+        @Param({"true", "false"})
+        boolean clientIds;
+
+        MockHttpServletRequest request;
+        DiscardingResponse response;
+
+        @Setup(Level.Trial)
+        public void create() {
+            request = new MockHttpServletRequest("GET", path);
+            if (clientIds) {
+                request.addHeader("X-Correlation-Id", "corr-benchmark");
+                request.addHeader("X-Request-Id", "req-benchmark");
+            }
+            request.addHeader("X-Session-Id", "session-benchmark");
+            response = new DiscardingResponse();
+        }
+
+        DiscardingResponse next() {
+            response.reset();
+            return response;
+        }
+    }
+
+    @Benchmark
+    public long doFilter(FilterState state, ExchangeState exchange) throws ServletException, IOException {
+        state.filter.doFilter(exchange.request, exchange.next(), NO_OP_CHAIN);
+        return exchange.response.bodyBytes();
+    }
+
+    // Cost of one span: the clock read at its start plus RequestTrace.record at its end.
+    @Benchmark
+    public RequestTrace recordSpan(SpanState state) {
+        RequestTrace.record(RequestTrace.HANDLER, System.nanoTime());
+        return state.trace;
+    }
+
+    @Benchmark
+    public String nextRequestId() {
+        return RequestIds.next("req-");
+    }
+
+    @State(Scope.Thread)
+    public static class SpanState {
+
+        RequestTrace trace;
+
+        @Setup(Level.Iteration)
+        public void start() {
+            trace = RequestTrace.start();
+        }
+    }
+}
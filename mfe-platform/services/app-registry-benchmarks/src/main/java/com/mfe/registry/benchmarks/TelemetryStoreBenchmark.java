@@ -0,0 +1,92 @@
+package com.mfe.registry.benchmarks;
+
+import com.mfe.registry.web.TelemetryController;
+import com.mfe.registry.web.TelemetryStore;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TelemetryStoreBenchmark {
+
+    private static final int RECORD_POOL = 1 << 16;
+
+    @State(Scope.Group)
+    public static class StoreState {
+
+        @Param({"500", "100000"})
+        int capacity;
+
+        TelemetryStore store;
+        TelemetryController.TelemetryRecord[] records;
+
+        @Setup
+        public void setUp() {
+            store = new TelemetryStore(capacity);
+            records = BenchmarkFixtures.telemetryRecords(RECORD_POOL, 4096);
+            for (int index = 0; index < capacity; index++) {
+                store.add(records[index & (RECORD_POOL - 1)]);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ProducerState {
+
+        int next;
+    }
+
+    @Benchmark
+    @Group("ingestWithListReader")
+    @GroupThreads(3)
+    public void ingest(StoreState state, ProducerState producer) {
+        state.store.add(state.records[producer.next++ & (RECORD_POOL - 1)]);
+    }
+
+    @Benchmark
+    @Group("ingestWithListReader")
+    @GroupThreads(1)
+    public List<TelemetryController.TelemetryRecord> list(StoreState state) {
+        return state.store.list();
+    }
+
+    @Benchmark
+    @Group("ingestWithIndexedQuery")
+    @GroupThreads(3)
+    public void ingestForQuery(StoreState state, ProducerState producer) {
+        state.store.add(state.records[producer.next++ & (RECORD_POOL - 1)]);
+    }
+
+    @Benchmark
+    @Group("ingestWithIndexedQuery")
+    @GroupThreads(1)
+    public TelemetryStore.TelemetryPage queryByCorrelationId(StoreState state, ProducerState reader) {
+        return state.store.query(new TelemetryStore.TelemetryQuery(
+                null,
+                null,
+                "corr-" + (reader.next++ & 4095),
+                null,
+                null,
+                null,
+                null,
+                null,
+                100
+        ));
+    }
+}
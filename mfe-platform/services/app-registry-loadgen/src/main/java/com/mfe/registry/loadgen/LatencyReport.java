@@ -0,0 +1,204 @@
+package com.mfe.registry.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+final class LatencyReport {
+
+    static final String CLIENT_SATURATED = "client-saturated";
+    static final String TIMEOUT = "timeout";
+    static final String IO_ERROR = "io-error";
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<Scenario, Endpoint> endpoints = new EnumMap<>(Scenario.class);
+    private final LongAdder completed = new LongAdder();
+
+    LatencyReport(Iterable<Scenario> scenarios) {
+        for (Scenario scenario : scenarios) {
+            endpoints.put(scenario, new Endpoint());
+        }
+    }
+
+    private static final class Endpoint {
+
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram measured = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private Histogram recycled;
+    }
+
+    record IntervalSummary(long completed, long measured, double p50Millis, double p99Millis, double maxMillis) {
+    }
+
+    // Latency is measured from the intended send time, not the actual one, so a stalled server
+    // is charged for every request it delayed instead of hiding them (coordinated omission).
+    void record(Scenario scenario, boolean measuring, long latencyNanos, String outcome, boolean success) {
+        completed.increment();
+        if (!measuring) {
+            return;
+        }
+        Endpoint endpoint = endpoints.get(scenario);
+        endpoint.requests.increment();
+        endpoint.outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        if (!success) {
+            endpoint.errors.increment();
+        }
+        if (latencyNanos >= 0) {
+            endpoint.recorder.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1, latencyNanos / 1_000)));
+        }
+    }
+
+    IntervalSummary drainInterval() {
+        Histogram interval = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        for (Endpoint endpoint : endpoints.values()) {
+            endpoint.recycled = endpoint.recorder.getIntervalHistogram(endpoint.recycled);
+            endpoint.measured.add(endpoint.recycled);
+            interval.add(endpoint.recycled);
+        }
+        return new IntervalSummary(
+                completed.sumThenReset(),
+                interval.getTotalCount(),
+                millis(interval.getValueAtPercentile(50)),
+                millis(interval.getValueAtPercentile(99)),
+                millis(interval.getMaxValue())
+        );
+    }
+
+    Map<String, Object> toReport(LoadOptions options, String target, double measuredSeconds) {
+        drainInterval();
+        Map<String, Object> endpointReports = new LinkedHashMap<>();
+        Histogram overall = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (Map.Entry<Scenario, Endpoint> entry : endpoints.entrySet()) {
+            Endpoint endpoint = entry.getValue();
+            long requests = endpoint.requests.sum();
+            long errors = endpoint.errors.sum();
+            Map<String, Long> outcomes = new TreeMap<>();
+            endpoint.outcomes.forEach((outcome, count) -> outcomes.put(outcome, count.sum()));
+            endpointReports.put(entry.getKey().endpoint(), endpointReport(endpoint.measured, requests, errors, measuredSeconds, outcomes));
+            overall.add(endpoint.measured);
+            totalRequests += requests;
+            totalErrors += errors;
+        }
+
+        Map<String, Object> mix = new LinkedHashMap<>();
+        options.mix().forEach((scenario, weight) -> mix.put(scenario.endpoint(), weight));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("target", target);
+        report.put("arrivals", options.arrivals().name().toLowerCase());
+        report.put("ratePerSecond", options.ratePerSecond());
+        report.put("warmupSeconds", options.warmup().toSeconds());
+        report.put("measuredSeconds", round(measuredSeconds));
+        report.put("seed", options.seed());
+        report.put("mix", mix);
+        report.put("overall", endpointReport(overall, totalRequests, totalErrors, measuredSeconds, Map.of()));
+        report.put("endpoints", endpointReports);
+        return report;
+    }
+
+    static void print(Map<String, Object> report, JsonNode baseline, PrintStream out) {
+        out.printf("%n%-24s %9s %9s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors%", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> endpoints = (Map<String, Map<String, Object>>) report.get("endpoints");
+        Map<String, Map<String, Object>> rows = new LinkedHashMap<>(endpoints);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> overall = (Map<String, Object>) report.get("overall");
+        rows.put("overall", overall);
+
+        for (Map.Entry<String, Map<String, Object>> row : rows.entrySet()) {
+            Map<String, Object> values = row.getValue();
+            @SuppressWarnings("unchecked")
+            Map<String, Object> latency = (Map<String, Object>) values.get("latencyMs");
+            out.printf("%-24s %9d %9.1f %8.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.getKey(),
+                    (Long) values.get("requests"),
+                    (Double) values.get("throughputPerSecond"),
+                    (Double) values.get("errorRate") * 100,
+                    (Double) latency.get("p50"),
+                    (Double) latency.get("p90"),
+                    (Double) latency.get("p99"),
+                    (Double) latency.get("p999"),
+                    (Double) latency.get("max"));
+
+            JsonNode previous = baseline == null
+                    ? null
+                    : row.getKey().equals("overall") ? baseline.get("overall") : baseline.path("endpoints").get(row.getKey());
+            if (previous != null) {
+                out.printf("%-24s %9s %9s %+8.2f %+9.2f %+9.2f %+9.2f %+9.2f %+9.2f%n",
+                        "  vs baseline",
+                        "",
+                        "",
+                        ((Double) values.get("errorRate") - previous.path("errorRate").asDouble()) * 100,
+                        (Double) latency.get("p50") - previous.path("latencyMs").path("p50").asDouble(),
+                        (Double) latency.get("p90") - previous.path("latencyMs").path("p90").asDouble(),
+                        (Double) latency.get("p99") - previous.path("latencyMs").path("p99").asDouble(),
+                        (Double) latency.get("p999") - previous.path("latencyMs").path("p999").asDouble(),
+                        (Double) latency.get("max") - previous.path("latencyMs").path("max").asDouble());
+            }
+        }
+    }
+
+    static void write(Map<String, Object> report, Path path, ObjectMapper objectMapper) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+    }
+
+    private static Map<String, Object> endpointReport(
+            Histogram histogram,
+            long requests,
+            long errors,
+            double measuredSeconds,
+            Map<String, Long> outcomes
+    ) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", millis(histogram.getValueAtPercentile(50)));
+        latency.put("p90", millis(histogram.getValueAtPercentile(90)));
+        latency.put("p99", millis(histogram.getValueAtPercentile(99)));
+        latency.put("p999", millis(histogram.getValueAtPercentile(99.9)));
+        latency.put("p9999", millis(histogram.getValueAtPercentile(99.99)));
+        latency.put("max", millis(histogram.getMaxValue()));
+        latency.put("mean", round(histogram.getMean() / 1_000.0));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requests", requests);
+        report.put("errors", errors);
+        report.put("errorRate", requests == 0 ? 0.0 : Math.round(1_000_000.0 * errors / requests) / 1_000_000.0);
+        report.put("throughputPerSecond", round(requests / measuredSeconds));
+        report.put("latencyMs", latency);
+        if (!outcomes.isEmpty()) {
+            report.put("outcomes", outcomes);
+        }
+        return report;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1_000.0) / 1_000.0;
+    }
+}
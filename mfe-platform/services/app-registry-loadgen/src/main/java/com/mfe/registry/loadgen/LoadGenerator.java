@@ -0,0 +1,210 @@
+package com.mfe.registry.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mfe.registry.AppRegistryApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public final class LoadGenerator {
+
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final LoadOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client;
+    private final ExecutorService clientExecutor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private LoadGenerator(LoadOptions options) {
+        this.options = options;
+        this.clientExecutor = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+            Thread thread = new Thread(runnable, "loadgen-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(clientExecutor)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options = LoadOptions.parse(args);
+        ConfigurableApplicationContext application = null;
+        URI target = options.target();
+        if (target == null) {
+            application = startInProcess(options.applicationArgs());
+            int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+            target = URI.create("http://localhost:" + port);
+        }
+
+        try {
+            new LoadGenerator(options).run(target, application != null);
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startInProcess(List<String> applicationArgs) {
+        List<String> args = new ArrayList<>();
+        args.add("--server.port=0");
+        // Per-request events would otherwise flood the console and compete with the driver for CPU.
+        args.add("--logging.level.com.mfe.registry.events=WARN");
+        args.addAll(applicationArgs);
+        return new SpringApplicationBuilder(AppRegistryApplication.class)
+                .bannerMode(Banner.Mode.OFF)
+                .run(args.toArray(String[]::new));
+    }
+
+    private void run(URI target, boolean inProcess) throws IOException, InterruptedException {
+        TrafficContext context = new TrafficContext(target, objectMapper, issueUserTokens(target), login(target, "admin"));
+        TrafficMix mix = new TrafficMix(options.mix());
+        LatencyReport report = new LatencyReport(options.mix().keySet());
+        SplittableRandom random = new SplittableRandom(options.seed());
+
+        System.out.printf("[loadgen] target=%s%s rate=%.1f/s arrivals=%s warmup=%ss duration=%ss%n",
+                target,
+                inProcess ? " (in-process)" : "",
+                options.ratePerSecond(),
+                options.arrivals().name().toLowerCase(),
+                options.warmup().toSeconds(),
+                options.duration().toSeconds());
+
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / options.ratePerSecond();
+        long nextProgress = start + PROGRESS_INTERVAL_NANOS;
+        double intended = start;
+
+        // Open model: arrivals follow the schedule whether or not earlier requests have completed.
+        while (intended < end) {
+            long intendedNanos = (long) intended;
+            long wait = intendedNanos - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Scenario scenario = mix.next(random);
+            boolean measuring = intendedNanos >= measureFrom;
+            if (inFlight.get() >= options.maxInFlight()) {
+                report.record(scenario, measuring, -1, LatencyReport.CLIENT_SATURATED, false);
+            } else {
+                send(context, scenario, random.split(), intendedNanos, measuring, report);
+            }
+
+            if (System.nanoTime() >= nextProgress) {
+                printProgress(report.drainInterval(), nextProgress <= measureFrom);
+                nextProgress += PROGRESS_INTERVAL_NANOS;
+            }
+            intended += options.arrivals() == LoadOptions.Arrivals.POISSON
+                    ? -Math.log(1 - random.nextDouble()) * meanIntervalNanos
+                    : meanIntervalNanos;
+        }
+
+        awaitInFlight();
+        double measuredSeconds = options.duration().toNanos() / 1e9;
+        Map<String, Object> result = report.toReport(options, target.toString(), measuredSeconds);
+        JsonNode baseline = options.baseline() == null ? null : objectMapper.readTree(options.baseline().toFile());
+        LatencyReport.print(result, baseline, System.out);
+        LatencyReport.write(result, options.report(), objectMapper);
+        System.out.printf("%n[loadgen] report written to %s%n", options.report().toAbsolutePath());
+        clientExecutor.shutdownNow();
+    }
+
+    private void send(
+            TrafficContext context,
+            Scenario scenario,
+            SplittableRandom random,
+            long intendedNanos,
+            boolean measuring,
+            LatencyReport report
+    ) {
+        HttpRequest request = scenario.request(context, random)
+                .timeout(options.requestTimeout())
+                .build();
+        inFlight.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long latency = System.nanoTime() - intendedNanos;
+                    inFlight.decrementAndGet();
+                    if (error != null) {
+                        report.record(scenario, measuring, latency, classify(error), false);
+                        return;
+                    }
+                    int status = response.statusCode();
+                    boolean success = (status >= 200 && status < 300) || status == 304;
+                    report.record(scenario, measuring, latency, Integer.toString(status), success);
+                    scenario.onResponse(context, response);
+                });
+    }
+
+    private List<String> issueUserTokens(URI target) throws IOException, InterruptedException {
+        List<String> tokens = new ArrayList<>(options.userTokens());
+        for (int index = 0; index < options.userTokens(); index++) {
+            tokens.add(login(target, "load-user-" + index));
+        }
+        return tokens;
+    }
+
+    private String login(URI target, String username) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(target.resolve("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of("username", username))))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login for " + username + " failed with HTTP " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).path("accessToken").asText();
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + options.requestTimeout().toNanos() + TimeUnit.SECONDS.toNanos(5);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private void printProgress(LatencyReport.IntervalSummary interval, boolean warmingUp) {
+        System.out.printf("[loadgen] %-8s completed=%6d/5s in-flight=%5d p50=%8.2fms p99=%8.2fms max=%8.2fms%n",
+                warmingUp ? "warmup" : "measure",
+                interval.completed(),
+                inFlight.get(),
+                interval.p50Millis(),
+                interval.p99Millis(),
+                interval.maxMillis());
+    }
+
+    private static String classify(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof HttpTimeoutException && !(cause instanceof HttpConnectTimeoutException)) {
+            return LatencyReport.TIMEOUT;
+        }
+        return LatencyReport.IO_ERROR;
+    }
+}
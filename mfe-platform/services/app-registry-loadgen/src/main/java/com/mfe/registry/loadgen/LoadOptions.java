@@ -0,0 +1,116 @@
+package com.mfe.registry.loadgen;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+record LoadOptions(
+        URI target,
+        double ratePerSecond,
+        Arrivals arrivals,
+        Duration warmup,
+        Duration duration,
+        Duration requestTimeout,
+        Map<Scenario, Integer> mix,
+        int userTokens,
+        int maxInFlight,
+        long seed,
+        Path report,
+        Path baseline,
+        List<String> applicationArgs
+) {
+
+    enum Arrivals {
+        POISSON,
+        UNIFORM
+    }
+
+    static LoadOptions parse(String[] args) {
+        URI target = null;
+        double rate = 200;
+        Arrivals arrivals = Arrivals.POISSON;
+        Duration warmup = Duration.ofSeconds(10);
+        Duration duration = Duration.ofSeconds(60);
+        Duration requestTimeout = Duration.ofSeconds(10);
+        Map<Scenario, Integer> mix = Scenario.defaultMix();
+        int userTokens = 200;
+        int maxInFlight = 20_000;
+        long seed = 42;
+        Path report = Path.of("loadgen-report.json");
+        Path baseline = null;
+        List<String> applicationArgs = new ArrayList<>();
+
+        for (int index = 0; index < args.length; index++) {
+            String arg = args[index];
+            if (arg.equals("--")) {
+                applicationArgs.addAll(Arrays.asList(args).subList(index + 1, args.length));
+                break;
+            }
+            if (index + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + arg);
+            }
+            String value = args[++index];
+            switch (arg) {
+                case "--target" -> target = URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1) : value);
+                case "--rate" -> rate = Double.parseDouble(value);
+                case "--arrivals" -> arrivals = Arrivals.valueOf(value.toUpperCase());
+                case "--warmup" -> warmup = DurationStyle.detectAndParse(value);
+                case "--duration" -> duration = DurationStyle.detectAndParse(value);
+                case "--timeout" -> requestTimeout = DurationStyle.detectAndParse(value);
+                case "--mix" -> mix = parseMix(value);
+                case "--users" -> userTokens = Integer.parseInt(value);
+                case "--max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--report" -> report = Path.of(value);
+                case "--baseline" -> baseline = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+
+        if (rate <= 0) {
+            throw new IllegalArgumentException("--rate must be positive");
+        }
+        if (userTokens <= 0) {
+            throw new IllegalArgumentException("--users must be positive");
+        }
+        return new LoadOptions(
+                target,
+                rate,
+                arrivals,
+                warmup,
+                duration,
+                requestTimeout,
+                mix,
+                userTokens,
+                maxInFlight,
+                seed,
+                report,
+                baseline,
+                List.copyOf(applicationArgs)
+        );
+    }
+
+    private static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries must look like name=weight: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Scenario.byName(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("--mix needs at least one scenario with a positive weight");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,155 @@
+package com.mfe.registry.loadgen;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+enum Scenario {
+
+    // Shell boot: half the visitors come back with the manifest ETag from their previous session.
+    REGISTRY_BOOT("registry-boot", 30) {
+        @Override
+        HttpRequest.Builder request(TrafficContext context, SplittableRandom random) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(context.uri("/api/registry"))
+                    .header("Accept-Encoding", "gzip")
+                    .GET();
+            String etag = context.registryEtag();
+            if (etag != null && random.nextBoolean()) {
+                builder.header("If-None-Match", etag);
+            }
+            return builder;
+        }
+
+        @Override
+        void onResponse(TrafficContext context, HttpResponse<?> response) {
+            response.headers().firstValue("ETag").ifPresent(context::registryEtag);
+        }
+    },
+    RESOLVED_MANIFEST("resolved-manifest", 20) {
+        @Override
+        HttpRequest.Builder request(TrafficContext context, SplittableRandom random) {
+            return HttpRequest.newBuilder(context.uri("/api/registry/resolved"))
+                    .header("Authorization", "Bearer " + context.userToken(random))
+                    .header("Accept-Encoding", "gzip")
+                    .GET();
+        }
+    },
+    LOGIN("login", 5) {
+        @Override
+        HttpRequest.Builder request(TrafficContext context, SplittableRandom random) {
+            return jsonPost(context, "/api/auth/login", Map.of("username", "load-user-" + random.nextInt(100_000)));
+        }
+    },
+    TELEMETRY_ANONYMOUS("telemetry-anonymous", 15) {
+        @Override
+        HttpRequest.Builder request(TrafficContext context, SplittableRandom random) {
+            return jsonPost(context, "/api/telemetry", telemetryEvent(random));
+        }
+    },
+    TELEMETRY_AUTHENTICATED("telemetry-authenticated", 20) {
+        @Override
+        HttpRequest.Builder request(TrafficContext context, SplittableRandom random) {
+            return jsonPost(context, "/api/telemetry", telemetryEvent(random))
+                    .header("Authorization", "Bearer " + context.userToken(random));
+        }
+    },
+    TELEMETRY_BATCH("telemetry-batch", 5) {
+        @Override
+        HttpRequest.Builder request(TrafficContext context, SplittableRandom random) {
+            StringBuilder body = new StringBuilder();
+            int events = 5 + random.nextInt(20);
+            for (int index = 0; index < events; index++) {
+                body.append(context.json(telemetryEvent(random))).append('\n');
+            }
+            return withCorrelation(context, HttpRequest.newBuilder(context.uri("/api/telemetry/batch")))
+                    .header("Content-Type", "application/x-ndjson")
+                    .header("Authorization", "Bearer " + context.userToken(random))
+                    .POST(HttpRequest.BodyPublishers.ofString(body.toString()));
+        }
+    },
+    CANARY_UPDATE("canary-update", 1) {
+        @Override
+        HttpRequest.Builder request(TrafficContext context, SplittableRandom random) {
+            String remoteId = TrafficContext.REMOTE_IDS.get(random.nextInt(TrafficContext.REMOTE_IDS.size()));
+            Map<String, Object> body = Map.of("enabled", true, "rolloutPercentage", random.nextInt(101));
+            return HttpRequest.newBuilder(context.uri("/api/registry/admin/canary-flags/" + remoteId))
+                    .header("Content-Type", "application/json")
+                    .header("Authorization", "Bearer " + context.adminToken())
+                    .PUT(HttpRequest.BodyPublishers.ofString(context.json(body)));
+        }
+    },
+    ADMIN_TELEMETRY("admin-telemetry", 4) {
+        @Override
+        HttpRequest.Builder request(TrafficContext context, SplittableRandom random) {
+            String remoteId = TrafficContext.REMOTE_IDS.get(random.nextInt(TrafficContext.REMOTE_IDS.size()));
+            String query = random.nextBoolean() ? "?limit=100" : "?limit=100&remoteId=" + remoteId.replace('-', '_');
+            return HttpRequest.newBuilder(context.uri("/api/admin/telemetry" + query))
+                    .header("Authorization", "Bearer " + context.adminToken())
+                    .GET();
+        }
+    };
+
+    private final String endpoint;
+    private final int defaultWeight;
+
+    Scenario(String endpoint, int defaultWeight) {
+        this.endpoint = endpoint;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    abstract HttpRequest.Builder request(TrafficContext context, SplittableRandom random);
+
+    void onResponse(TrafficContext context, HttpResponse<?> response) {
+    }
+
+    static Map<Scenario, Integer> defaultMix() {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : values()) {
+            mix.put(scenario, scenario.defaultWeight);
+        }
+        return mix;
+    }
+
+    static Scenario byName(String endpoint) {
+        for (Scenario scenario : values()) {
+            if (scenario.endpoint.equals(endpoint)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario " + endpoint);
+    }
+
+    private static HttpRequest.Builder jsonPost(TrafficContext context, String path, Object body) {
+        return withCorrelation(context, HttpRequest.newBuilder(context.uri(path)))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(context.json(body)));
+    }
+
+    private static HttpRequest.Builder withCorrelation(TrafficContext context, HttpRequest.Builder builder) {
+        long sequence = context.nextSequence();
+        return builder
+                .header("X-Session-Id", "load-session-" + (sequence % 5_000))
+                .header("X-Correlation-Id", "load-corr-" + sequence);
+    }
+
+    private static Map<String, Object> telemetryEvent(SplittableRandom random) {
+        String routeId = TrafficContext.REMOTE_IDS.get(random.nextInt(TrafficContext.REMOTE_IDS.size()));
+        boolean canary = random.nextInt(10) == 0;
+        boolean failed = random.nextInt(50) == 0;
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("eventType", failed ? (canary ? "REMOTE_LOAD_CANARY_FAILED" : "REMOTE_LOAD_FAILURE") : "REMOTE_LOAD_SUCCESS");
+        event.put("remoteId", routeId.replace('-', '_'));
+        event.put("routeId", routeId);
+        event.put("level", failed ? (canary ? "WARN" : "ERROR") : "INFO");
+        event.put("durationMs", 20 + (long) (random.nextDouble() * random.nextDouble() * 800));
+        event.put("metadata", Map.of("variant", canary ? "canary" : "stable"));
+        return event;
+    }
+}
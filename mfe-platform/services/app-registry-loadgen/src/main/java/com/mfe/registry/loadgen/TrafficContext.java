@@ -0,0 +1,59 @@
+package com.mfe.registry.loadgen;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class TrafficContext {
+
+    static final List<String> REMOTE_IDS = List.of("remote-accounts", "remote-billing", "remote-analytics");
+
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+    private final List<String> userTokens;
+    private final String adminToken;
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile String registryEtag;
+
+    TrafficContext(URI baseUri, ObjectMapper objectMapper, List<String> userTokens, String adminToken) {
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+        this.userTokens = userTokens;
+        this.adminToken = adminToken;
+    }
+
+    URI uri(String path) {
+        return baseUri.resolve(path);
+    }
+
+    String userToken(SplittableRandom random) {
+        return userTokens.get(random.nextInt(userTokens.size()));
+    }
+
+    String adminToken() {
+        return adminToken;
+    }
+
+    long nextSequence() {
+        return sequence.incrementAndGet();
+    }
+
+    String registryEtag() {
+        return registryEtag;
+    }
+
+    void registryEtag(String etag) {
+        registryEtag = etag;
+    }
+
+    String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize request body", ex);
+        }
+    }
+}
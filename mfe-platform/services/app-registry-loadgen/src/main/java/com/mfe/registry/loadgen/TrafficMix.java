@@ -0,0 +1,30 @@
+package com.mfe.registry.loadgen;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+final class TrafficMix {
+
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+
+    TrafficMix(Map<Scenario, Integer> weights) {
+        this.scenarios = weights.keySet().toArray(Scenario[]::new);
+        this.cumulativeWeights = new int[scenarios.length];
+        int total = 0;
+        for (int index = 0; index < scenarios.length; index++) {
+            total += weights.get(scenarios[index]);
+            cumulativeWeights[index] = total;
+        }
+    }
+
+    Scenario next(SplittableRandom random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int index = 0; index < cumulativeWeights.length; index++) {
+            if (pick < cumulativeWeights[index]) {
+                return scenarios[index];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+}
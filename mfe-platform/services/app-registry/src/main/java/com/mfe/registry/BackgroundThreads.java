@@ -0,0 +1,38 @@
+package com.mfe.registry;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BackgroundThreads {
+
+    private final ThreadFactory factory;
+
+    public BackgroundThreads(Environment environment) {
+        this.factory = Threading.VIRTUAL.isActive(environment)
+                ? new VirtualThreadTaskExecutor().getVirtualThreadFactory()
+                : Thread::new;
+    }
+
+    public Thread start(String name, Runnable task) {
+        Thread thread = newThread(name, task);
+        thread.start();
+        return thread;
+    }
+
+    public ScheduledExecutorService scheduler(String name) {
+        return Executors.newSingleThreadScheduledExecutor(task -> newThread(name, task));
+    }
+
+    private Thread newThread(String name, Runnable task) {
+        Thread thread = factory.newThread(task);
+        thread.setName(name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
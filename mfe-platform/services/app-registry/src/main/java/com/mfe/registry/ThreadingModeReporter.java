@@ -0,0 +1,35 @@
+package com.mfe.registry;
+
+import com.mfe.registry.logging.StructuredEventLogger;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ThreadingModeReporter {
+
+    private final Environment environment;
+    private final StructuredEventLogger eventLogger;
+
+    public ThreadingModeReporter(Environment environment, StructuredEventLogger eventLogger) {
+        this.environment = environment;
+        this.eventLogger = eventLogger;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportThreadingMode() {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        boolean active = Threading.VIRTUAL.isActive(environment);
+
+        // Boot silently falls back to platform threads below Java 21, so make the mismatch visible.
+        StructuredEventLogger.Event event = requested && !active
+                ? eventLogger.warn("threading_mode_unavailable")
+                : eventLogger.info("threading_mode");
+        event.field("virtualThreadsRequested", requested)
+                .field("virtualThreads", active)
+                .field("javaVersion", Runtime.version().feature())
+                .emit();
+    }
+}
@@ -1,5 +1,6 @@
 package com.mfe.registry.auth;
 
+import com.mfe.registry.tracing.RequestTrace;
 import io.jsonwebtoken.Claims;
 import java.util.List;
 import org.springframework.http.HttpStatus;
@@ -16,23 +17,29 @@ public class AdminAuthorizationService {
     }
 
     public Claims validateBearerToken(String authorizationHeader) {
+        return verifyBearerToken(authorizationHeader).claims();
+    }
+
+    public void requireAdmin(String authorizationHeader) {
+        List<String> roles = verifyBearerToken(authorizationHeader).roles();
+        if (!roles.contains("ADMIN")) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "ADMIN role required");
+        }
+    }
+
+    private JwtService.VerifiedToken verifyBearerToken(String authorizationHeader) {
         if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Missing bearer token");
         }
 
         String token = authorizationHeader.substring("Bearer ".length());
+        long startedAt = System.nanoTime();
         try {
-            return jwtService.validate(token);
+            return jwtService.validateToken(token);
         } catch (Exception ex) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid JWT token");
-        }
-    }
-
-    public void requireAdmin(String authorizationHeader) {
-        Claims claims = validateBearerToken(authorizationHeader);
-        List<?> roles = claims.get("roles", List.class);
-        if (roles == null || !roles.contains("ADMIN")) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "ADMIN role required");
+        } finally {
+            RequestTrace.record(RequestTrace.AUTH, startedAt);
         }
     }
 }
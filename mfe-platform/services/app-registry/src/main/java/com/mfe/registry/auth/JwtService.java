@@ -1,13 +1,30 @@
 package com.mfe.registry.auth;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -17,13 +34,69 @@ public class JwtService {
 
     private final SecretKey signingKey;
     private final long expirationMinutes;
+    private final JwtParser parser;
+    private final int cacheMaxEntries;
+    private final Map<TokenDigest, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong cacheEvictions = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Timer cachedValidations;
+    private final Timer verifiedValidations;
+    private final Timer rejectedValidations;
+    private final Counter expiredFailures;
+    private final Counter signatureFailures;
+    private final Counter malformedFailures;
+    private final Counter otherFailures;
 
     public JwtService(
             @Value("${app.jwt.secret}") String secret,
-            @Value("${app.jwt.expiration-minutes}") long expirationMinutes
+            @Value("${app.jwt.expiration-minutes}") long expirationMinutes,
+            @Value("${app.jwt.cache.max-entries:10000}") int cacheMaxEntries,
+            MeterRegistry meterRegistry
     ) {
         this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationMinutes = expirationMinutes;
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.cacheMaxEntries = cacheMaxEntries;
+        this.cachedValidations = validationTimer(meterRegistry, "cached");
+        this.verifiedValidations = validationTimer(meterRegistry, "verified");
+        this.rejectedValidations = validationTimer(meterRegistry, "rejected");
+        this.expiredFailures = failureCounter(meterRegistry, "expired");
+        this.signatureFailures = failureCounter(meterRegistry, "signature");
+        this.malformedFailures = failureCounter(meterRegistry, "malformed");
+        this.otherFailures = failureCounter(meterRegistry, "other");
+    }
+
+    public static final class VerifiedToken {
+
+        private final Claims claims;
+        private final List<String> roles;
+        private final long expiresAtMillis;
+        private volatile long lastAccessNanos;
+
+        private VerifiedToken(Claims claims, List<String> roles, long expiresAtMillis) {
+            this.claims = claims;
+            this.roles = roles;
+            this.expiresAtMillis = expiresAtMillis;
+            this.lastAccessNanos = System.nanoTime();
+        }
+
+        public Claims claims() {
+            return claims;
+        }
+
+        public List<String> roles() {
+            return roles;
+        }
+    }
+
+    public record TokenCacheStats(int size, int maxEntries, long hits, long misses, long evictions) {
+    }
+
+    private record TokenDigest(long first, long second, long third, long fourth) {
     }
 
     public String issueToken(String subject, List<String> roles) {
@@ -40,10 +113,144 @@ public class JwtService {
     }
 
     public Claims validate(String token) {
-        return Jwts.parser()
-                .verifyWith(signingKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return validateToken(token).claims();
+    }
+
+    public VerifiedToken validateToken(String token) {
+        long startedAt = System.nanoTime();
+        TokenDigest digest = digest(token);
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (System.currentTimeMillis() < cached.expiresAtMillis) {
+                cached.lastAccessNanos = System.nanoTime();
+                cacheHits.incrementAndGet();
+                cachedValidations.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                return cached;
+            }
+            verifiedTokens.remove(digest, cached);
+            cacheEvictions.incrementAndGet();
+        }
+
+        cacheMisses.incrementAndGet();
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException ex) {
+            rejectedValidations.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            failureCounterFor(ex).increment();
+            throw ex;
+        }
+        VerifiedToken verified = new VerifiedToken(claims, rolesOf(claims), expiresAtMillis(claims));
+        if (cacheMaxEntries > 0) {
+            verifiedTokens.put(digest, verified);
+            if (verifiedTokens.size() > cacheMaxEntries) {
+                evict();
+            }
+        }
+        verifiedValidations.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return verified;
+    }
+
+    public TokenCacheStats cacheStats() {
+        return new TokenCacheStats(
+                verifiedTokens.size(),
+                cacheMaxEntries,
+                cacheHits.get(),
+                cacheMisses.get(),
+                cacheEvictions.get()
+        );
+    }
+
+    private void evict() {
+        // One trimmer at a time; concurrent misses skip instead of queueing behind the sort.
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            trimCache();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void trimCache() {
+        long now = System.currentTimeMillis();
+        verifiedTokens.entrySet().removeIf(entry -> {
+            boolean expired = entry.getValue().expiresAtMillis <= now;
+            if (expired) {
+                cacheEvictions.incrementAndGet();
+            }
+            return expired;
+        });
+
+        int excess = verifiedTokens.size() - cacheMaxEntries;
+        if (excess <= 0) {
+            return;
+        }
+
+        // Trim an extra tenth so a full cache does not pay for a sort on every miss.
+        int toRemove = excess + cacheMaxEntries / 10;
+        verifiedTokens.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessNanos))
+                .limit(toRemove)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(key -> {
+                    if (verifiedTokens.remove(key) != null) {
+                        cacheEvictions.incrementAndGet();
+                    }
+                });
+    }
+
+    private Counter failureCounterFor(RuntimeException ex) {
+        if (ex instanceof ExpiredJwtException) {
+            return expiredFailures;
+        }
+        if (ex instanceof SignatureException) {
+            return signatureFailures;
+        }
+        if (ex instanceof MalformedJwtException) {
+            return malformedFailures;
+        }
+        return otherFailures;
+    }
+
+    private static Timer validationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("auth.jwt.validation")
+                .description("Bearer token validation latency, by cache hit, full verification or rejection")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter failureCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auth.jwt.validation.failures")
+                .description("Rejected bearer tokens by reason")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static List<String> rolesOf(Claims claims) {
+        List<?> roles = claims.get("roles", List.class);
+        if (roles == null) {
+            return List.of();
+        }
+        return roles.stream().map(String::valueOf).toList();
+    }
+
+    private static long expiresAtMillis(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration == null ? Long.MAX_VALUE : expiration.getTime();
+    }
+
+    private static TokenDigest digest(String token) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+        ByteBuffer hash = ByteBuffer.wrap(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
     }
 }
@@ -0,0 +1,280 @@
+package com.mfe.registry.logging;
+
+import com.mfe.registry.BackgroundThreads;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StructuredEventLogger {
+
+    private static final Logger logger = LoggerFactory.getLogger("com.mfe.registry.events");
+    private static final int INITIAL_BUFFER = 256;
+    private static final int MAX_RETAINED_BUFFER = 8 * 1024;
+
+    private final StructuredLoggingProperties.OverflowPolicy overflow;
+    private final List<StructuredLoggingProperties.SamplingRule> samplingRules;
+    private final BlockingQueue<PendingEvent> pending;
+    private final AtomicLong emitted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong sampledOut = new AtomicLong();
+    private final ThreadLocal<Event> threadEvent = ThreadLocal.withInitial(() -> new Event(this));
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public StructuredEventLogger(StructuredLoggingProperties properties, BackgroundThreads backgroundThreads) {
+        this.overflow = properties.overflow() == null
+                ? StructuredLoggingProperties.OverflowPolicy.DROP
+                : properties.overflow();
+        this.samplingRules = properties.sampling() == null ? List.of() : List.copyOf(properties.sampling());
+        this.pending = new ArrayBlockingQueue<>(Math.max(1, properties.queueCapacity()));
+
+        this.writer = backgroundThreads.start("structured-event-writer", this::runWriter);
+    }
+
+    public enum Level {
+        INFO,
+        WARN,
+        ERROR
+    }
+
+    public record EventLoggerStats(long emitted, long dropped, long sampledOut, int pending) {
+    }
+
+    private record PendingEvent(Level level, String line) {
+    }
+
+    public Event info(String event) {
+        return begin(Level.INFO, event);
+    }
+
+    public Event warn(String event) {
+        return begin(Level.WARN, event);
+    }
+
+    public Event error(String event) {
+        return begin(Level.ERROR, event);
+    }
+
+    public EventLoggerStats stats() {
+        return new EventLoggerStats(emitted.get(), dropped.get(), sampledOut.get(), pending.size());
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        writer.join(5_000);
+    }
+
+    private Event begin(Level level, String event) {
+        if (!isEnabled(level) || !sampled(event)) {
+            return Event.DISCARDED;
+        }
+        Event reused = threadEvent.get();
+        // An event begun while this thread is still building another (a field value that logs) gets its own builder.
+        return (reused.building ? new Event(this) : reused).begin(level, event);
+    }
+
+    private boolean isEnabled(Level level) {
+        return switch (level) {
+            case INFO -> logger.isInfoEnabled();
+            case WARN -> logger.isWarnEnabled();
+            case ERROR -> logger.isErrorEnabled();
+        };
+    }
+
+    private boolean sampled(String event) {
+        if (samplingRules.isEmpty()) {
+            return true;
+        }
+
+        String path = null;
+        for (StructuredLoggingProperties.SamplingRule rule : samplingRules) {
+            if (!event.equals(rule.event())) {
+                continue;
+            }
+            if (rule.pathPrefix() != null) {
+                if (path == null) {
+                    path = MDC.get("path");
+                }
+                if (path == null || !path.startsWith(rule.pathPrefix())) {
+                    continue;
+                }
+            }
+
+            if (rule.rate() >= 1.0 || ThreadLocalRandom.current().nextDouble() < rule.rate()) {
+                return true;
+            }
+            sampledOut.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private void enqueue(Level level, String line) {
+        PendingEvent event = new PendingEvent(level, line);
+        if (pending.offer(event)) {
+            return;
+        }
+        if (overflow == StructuredLoggingProperties.OverflowPolicy.CALLER_RUNS) {
+            write(event);
+            return;
+        }
+        dropped.incrementAndGet();
+    }
+
+    private void runWriter() {
+        while (running || !pending.isEmpty()) {
+            try {
+                PendingEvent event = pending.poll(100, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    write(event);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void write(PendingEvent event) {
+        switch (event.level()) {
+            case INFO -> logger.info(event.line());
+            case WARN -> logger.warn(event.line());
+            case ERROR -> logger.error(event.line());
+        }
+        emitted.incrementAndGet();
+    }
+
+    public static class Event {
+
+        private static final Event DISCARDED = new Event(null);
+
+        private final StructuredEventLogger owner;
+        private StringBuilder buffer = new StringBuilder(INITIAL_BUFFER);
+        private Level level;
+        private boolean building;
+
+        private Event(StructuredEventLogger owner) {
+            this.owner = owner;
+        }
+
+        private Event begin(Level level, String event) {
+            this.level = level;
+            building = true;
+            buffer.setLength(0);
+            buffer.append("{\"event\":");
+            appendString(event);
+            return this;
+        }
+
+        public Event field(String name, String value) {
+            if (owner == null) {
+                return this;
+            }
+            appendName(name);
+            if (value == null) {
+                buffer.append("null");
+            } else {
+                appendString(value);
+            }
+            return this;
+        }
+
+        public Event field(String name, long value) {
+            if (owner == null) {
+                return this;
+            }
+            appendName(name);
+            buffer.append(value);
+            return this;
+        }
+
+        public Event field(String name, double value) {
+            if (owner == null) {
+                return this;
+            }
+            appendName(name);
+            // JSON has no NaN or Infinity.
+            if (Double.isFinite(value)) {
+                buffer.append(value);
+            } else {
+                buffer.append("null");
+            }
+            return this;
+        }
+
+        public Event field(String name, boolean value) {
+            if (owner == null) {
+                return this;
+            }
+            appendName(name);
+            buffer.append(value);
+            return this;
+        }
+
+        public Event field(String name, Long value) {
+            if (value == null) {
+                return field(name, (String) null);
+            }
+            return field(name, value.longValue());
+        }
+
+        public Event correlation() {
+            return field("correlationId", MDC.get("correlationId"))
+                    .field("requestId", MDC.get("requestId"))
+                    .field("sessionId", MDC.get("sessionId"));
+        }
+
+        public void emit() {
+            if (owner == null) {
+                return;
+            }
+            buffer.append('}');
+            String line = buffer.toString();
+            if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+                buffer = new StringBuilder(INITIAL_BUFFER);
+            }
+            building = false;
+            owner.enqueue(level, line);
+        }
+
+        private void appendName(String name) {
+            buffer.append(',');
+            appendString(name);
+            buffer.append(':');
+        }
+
+        private void appendString(String value) {
+            buffer.append('"');
+            for (int index = 0; index < value.length(); index++) {
+                char current = value.charAt(index);
+                switch (current) {
+                    case '"' -> buffer.append("\\\"");
+                    case '\\' -> buffer.append("\\\\");
+                    case '\n' -> buffer.append("\\n");
+                    case '\r' -> buffer.append("\\r");
+                    case '\t' -> buffer.append("\\t");
+                    default -> {
+                        if (current < 0x20) {
+                            buffer.append("\\u00");
+                            buffer.append(Character.forDigit(current >> 4, 16));
+                            buffer.append(Character.forDigit(current & 0xF, 16));
+                        } else {
+                            buffer.append(current);
+                        }
+                    }
+                }
+            }
+            buffer.append('"');
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.mfe.registry.logging;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.logging.events")
+public record StructuredLoggingProperties(
+        int queueCapacity,
+        OverflowPolicy overflow,
+        List<SamplingRule> sampling
+) {
+
+    public enum OverflowPolicy {
+        DROP,
+        CALLER_RUNS
+    }
+
+    public record SamplingRule(String event, String pathPrefix, double rate) {
+    }
+}
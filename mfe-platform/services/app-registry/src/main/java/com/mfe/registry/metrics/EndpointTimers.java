@@ -0,0 +1,109 @@
+package com.mfe.registry.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EndpointTimers {
+
+    private static final String[] METHODS = {"GET", "POST", "PUT", "DELETE", "OTHER"};
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Series> seriesByUri = new ConcurrentHashMap<>();
+
+    public EndpointTimers(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    private record Series(int[] keys, Timer[] timers) {
+
+        private static final Series EMPTY = new Series(new int[0], new Timer[0]);
+
+        Timer find(int key) {
+            for (int index = 0; index < keys.length; index++) {
+                if (keys[index] == key) {
+                    return timers[index];
+                }
+            }
+            return null;
+        }
+
+        Series with(int key, Timer timer) {
+            int[] grownKeys = Arrays.copyOf(keys, keys.length + 1);
+            Timer[] grownTimers = Arrays.copyOf(timers, timers.length + 1);
+            grownKeys[keys.length] = key;
+            grownTimers[timers.length] = timer;
+            return new Series(grownKeys, grownTimers);
+        }
+    }
+
+    // Timers are looked up by the handler's route template and a key packed from method and status. A route
+    // usually sees a handful of method/status pairs, so a linear scan of a copy-on-write array finds the series
+    // without allocating.
+    public void record(String method, String uriTemplate, int status, long durationNanos) {
+        String uri = uriTemplate != null ? uriTemplate : fallbackUri(status);
+        int methodIndex = methodIndex(method);
+        int key = methodIndex << 16 | (status & 0xFFFF);
+
+        Series series = seriesByUri.get(uri);
+        Timer timer = series == null ? null : series.find(key);
+        if (timer == null) {
+            timer = register(METHODS[methodIndex], uri, status);
+            Timer registered = timer;
+            seriesByUri.compute(uri, (ignored, current) -> {
+                Series base = current == null ? Series.EMPTY : current;
+                return base.find(key) == null ? base.with(key, registered) : base;
+            });
+        }
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer register(String method, String uri, int status) {
+        return Timer.builder("registry.http.requests")
+                .description("Request latency by route template, method and status")
+                .tag("method", method)
+                .tag("uri", uri)
+                .tag("status", Integer.toString(status))
+                .tag("outcome", outcome(status))
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    private static int methodIndex(String method) {
+        return switch (method) {
+            case "GET" -> 0;
+            case "POST" -> 1;
+            case "PUT" -> 2;
+            case "DELETE" -> 3;
+            default -> 4;
+        };
+    }
+
+    private static String fallbackUri(int status) {
+        if (status == 404) {
+            return "NOT_FOUND";
+        }
+        return status >= 300 && status < 400 ? "REDIRECTION" : "UNKNOWN";
+    }
+
+    private static String outcome(int status) {
+        if (status < 200) {
+            return "INFORMATIONAL";
+        }
+        if (status < 300) {
+            return "SUCCESS";
+        }
+        if (status < 400) {
+            return "REDIRECTION";
+        }
+        return status < 500 ? "CLIENT_ERROR" : "SERVER_ERROR";
+    }
+}
@@ -0,0 +1,31 @@
+package com.mfe.registry.metrics;
+
+import com.mfe.registry.auth.JwtService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JwtCacheMetrics implements MeterBinder {
+
+    private final JwtService jwtService;
+
+    public JwtCacheMetrics(JwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.jwt.cache.size", jwtService, service -> service.cacheStats().size())
+                .description("Verified tokens held in the validation cache")
+                .register(registry);
+        FunctionCounter.builder("auth.jwt.cache.hits", jwtService, service -> service.cacheStats().hits())
+                .register(registry);
+        FunctionCounter.builder("auth.jwt.cache.misses", jwtService, service -> service.cacheStats().misses())
+                .register(registry);
+        FunctionCounter.builder("auth.jwt.cache.evictions", jwtService, service -> service.cacheStats().evictions())
+                .register(registry);
+    }
+}
@@ -0,0 +1,73 @@
+package com.mfe.registry.metrics;
+
+import com.mfe.registry.web.CanaryRollbackEngine;
+import com.mfe.registry.web.RegistryController;
+import com.mfe.registry.web.RegistrySnapshot;
+import com.mfe.registry.web.RegistrySnapshotListener;
+import com.mfe.registry.web.RegistrySnapshotStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RegistrySnapshotMetrics implements MeterBinder {
+
+    private final RegistrySnapshotStore registrySnapshotStore;
+    private final ObjectProvider<CanaryRollbackEngine> canaryRollbackEngine;
+
+    public RegistrySnapshotMetrics(
+            RegistrySnapshotStore registrySnapshotStore,
+            ObjectProvider<CanaryRollbackEngine> canaryRollbackEngine
+    ) {
+        this.registrySnapshotStore = registrySnapshotStore;
+        this.canaryRollbackEngine = canaryRollbackEngine;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("registry.snapshot.version", registrySnapshotStore, store -> store.current().version())
+                .description("Version of the published registry snapshot")
+                .register(registry);
+        // Multi-gauges so remotes added or removed by a route reload gain or drop their rows.
+        MultiGauge canaryEnabled = MultiGauge.builder("registry.canary.enabled")
+                .description("Whether the canary variant is enabled for a remote")
+                .register(registry);
+        MultiGauge canaryRollout = MultiGauge.builder("registry.canary.rollout.percentage")
+                .description("Share of users bucketed into the canary variant")
+                .register(registry);
+        RegistrySnapshotListener canaryGauges = snapshot -> {
+            canaryEnabled.register(canaryRows(snapshot, flag -> flag.enabled() ? 1 : 0), true);
+            canaryRollout.register(canaryRows(snapshot, RegistryController.CanaryFlag::rolloutPercentage), true);
+        };
+        canaryGauges.onSnapshot(registrySnapshotStore.current());
+        registrySnapshotStore.addListener(canaryGauges);
+
+        canaryRollbackEngine.ifAvailable(engine -> {
+            FunctionCounter.builder("registry.canary.auto.rollbacks", engine, value -> value.stats().rollbacks())
+                    .description("Canary flags disabled by the telemetry-driven rollback evaluator")
+                    .register(registry);
+            FunctionCounter.builder("registry.canary.rollback.rejected.samples", engine, value -> value.stats().rejectedSamples())
+                    .description("Load events kept out of the rollback windows as unauthenticated, mis-assigned or over the per-user cap")
+                    .register(registry);
+        });
+    }
+
+    private static List<MultiGauge.Row<?>> canaryRows(
+            RegistrySnapshot snapshot,
+            ToIntFunction<RegistryController.CanaryFlag> value
+    ) {
+        List<MultiGauge.Row<?>> rows = new ArrayList<>(snapshot.canaryFlags().size());
+        for (RegistryController.CanaryFlag flag : snapshot.canaryFlags()) {
+            rows.add(MultiGauge.Row.of(Tags.of("remoteId", flag.remoteId()), value.applyAsInt(flag)));
+        }
+        return rows;
+    }
+}
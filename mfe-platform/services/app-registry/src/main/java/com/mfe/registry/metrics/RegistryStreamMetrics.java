@@ -0,0 +1,33 @@
+package com.mfe.registry.metrics;
+
+import com.mfe.registry.web.RegistryEventStream;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RegistryStreamMetrics implements MeterBinder {
+
+    private final RegistryEventStream registryEventStream;
+
+    public RegistryStreamMetrics(RegistryEventStream registryEventStream) {
+        this.registryEventStream = registryEventStream;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("registry.stream.subscribers", registryEventStream, stream -> stream.stats().subscribers())
+                .description("Open registry SSE connections")
+                .register(registry);
+        FunctionCounter.builder("registry.stream.events", registryEventStream, stream -> stream.stats().eventsDelivered())
+                .description("Snapshot and delta events written to stream subscribers")
+                .register(registry);
+        FunctionCounter.builder("registry.stream.heartbeats", registryEventStream, stream -> stream.stats().heartbeatsDelivered())
+                .register(registry);
+        FunctionCounter.builder("registry.stream.rejected", registryEventStream, stream -> stream.stats().rejected())
+                .description("Stream connections refused because max-subscribers was reached")
+                .register(registry);
+    }
+}
@@ -0,0 +1,37 @@
+package com.mfe.registry.metrics;
+
+import com.mfe.registry.web.SessionFunnelEngine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SessionFunnelMetrics implements MeterBinder {
+
+    private final ObjectProvider<SessionFunnelEngine> sessionFunnelEngine;
+
+    public SessionFunnelMetrics(ObjectProvider<SessionFunnelEngine> sessionFunnelEngine) {
+        this.sessionFunnelEngine = sessionFunnelEngine;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        sessionFunnelEngine.ifAvailable(engine -> {
+            Gauge.builder("telemetry.funnels.sessions", engine, value -> value.stats().activeSessions())
+                    .description("Sessions currently tracked by the funnel engine")
+                    .register(registry);
+            FunctionCounter.builder("telemetry.funnels.expired", engine, value -> value.stats().expiredSessions())
+                    .description("Sessions expired after the idle timeout")
+                    .register(registry);
+            FunctionCounter.builder("telemetry.funnels.rejected", engine, value -> value.stats().rejectedSessions())
+                    .description("Sessions not tracked because max-sessions was reached")
+                    .register(registry);
+            FunctionCounter.builder("telemetry.funnels.unmatched", engine, value -> value.stats().unmatchedEvents())
+                    .description("Load outcomes with no open funnel to close")
+                    .register(registry);
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.mfe.registry.metrics;
+
+import com.mfe.registry.logging.StructuredEventLogger;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StructuredEventMetrics implements MeterBinder {
+
+    private final StructuredEventLogger eventLogger;
+
+    public StructuredEventMetrics(StructuredEventLogger eventLogger) {
+        this.eventLogger = eventLogger;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("structured.events.emitted", eventLogger, logger -> logger.stats().emitted())
+                .description("Structured events handed to the writer")
+                .register(registry);
+        FunctionCounter.builder("structured.events.dropped", eventLogger, logger -> logger.stats().dropped())
+                .description("Structured events dropped because the queue was full")
+                .register(registry);
+        FunctionCounter.builder("structured.events.sampled.out", eventLogger, logger -> logger.stats().sampledOut())
+                .description("Structured events skipped by sampling rules")
+                .register(registry);
+        Gauge.builder("structured.events.pending", eventLogger, logger -> logger.stats().pending())
+                .description("Structured events waiting for the writer")
+                .register(registry);
+    }
+}
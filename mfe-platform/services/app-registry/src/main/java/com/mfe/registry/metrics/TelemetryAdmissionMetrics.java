@@ -0,0 +1,46 @@
+package com.mfe.registry.metrics;
+
+import com.mfe.registry.web.TelemetryAdmissionControl;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TelemetryAdmissionMetrics implements MeterBinder {
+
+    private final TelemetryAdmissionControl telemetryAdmissionControl;
+
+    public TelemetryAdmissionMetrics(TelemetryAdmissionControl telemetryAdmissionControl) {
+        this.telemetryAdmissionControl = telemetryAdmissionControl;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("telemetry.admission.admitted", telemetryAdmissionControl, control -> control.stats().admitted())
+                .description("Telemetry ingest requests admitted")
+                .register(registry);
+        FunctionCounter.builder("telemetry.admission.shed", telemetryAdmissionControl, control -> control.stats().shedConcurrency())
+                .description("Telemetry requests or events refused with 429")
+                .tag("reason", "concurrency")
+                .register(registry);
+        FunctionCounter.builder("telemetry.admission.shed", telemetryAdmissionControl, control -> control.stats().shedSession())
+                .description("Telemetry requests or events refused with 429")
+                .tag("reason", "session")
+                .register(registry);
+        FunctionCounter.builder("telemetry.admission.shed", telemetryAdmissionControl, control -> control.stats().shedRemote())
+                .description("Telemetry requests or events refused with 429")
+                .tag("reason", "remote")
+                .register(registry);
+        Gauge.builder("telemetry.admission.in.flight", telemetryAdmissionControl, control -> control.stats().inFlight())
+                .description("Telemetry ingest requests currently holding a concurrency permit")
+                .register(registry);
+        Gauge.builder("telemetry.admission.buckets", telemetryAdmissionControl, control -> control.stats().trackedSessions())
+                .tag("key", "session")
+                .register(registry);
+        Gauge.builder("telemetry.admission.buckets", telemetryAdmissionControl, control -> control.stats().trackedRemotes())
+                .tag("key", "remote")
+                .register(registry);
+    }
+}
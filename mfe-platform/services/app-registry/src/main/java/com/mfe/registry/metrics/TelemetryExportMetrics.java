@@ -0,0 +1,40 @@
+package com.mfe.registry.metrics;
+
+import com.mfe.registry.web.TelemetryExporter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TelemetryExportMetrics implements MeterBinder {
+
+    private final ObjectProvider<TelemetryExporter> telemetryExporter;
+
+    public TelemetryExportMetrics(ObjectProvider<TelemetryExporter> telemetryExporter) {
+        this.telemetryExporter = telemetryExporter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        telemetryExporter.ifAvailable(exporter -> {
+            FunctionCounter.builder("telemetry.export.exported", exporter, value -> value.stats().exported())
+                    .description("Events written to export files")
+                    .register(registry);
+            FunctionCounter.builder("telemetry.export.dropped", exporter, value -> value.stats().dropped())
+                    .description("Events the exporter could not queue or write")
+                    .register(registry);
+            FunctionCounter.builder("telemetry.export.blocked", exporter, value -> value.stats().blocked())
+                    .description("Ingest calls that waited for export queue space")
+                    .register(registry);
+            FunctionCounter.builder("telemetry.export.files", exporter, value -> value.stats().files())
+                    .description("Completed export files")
+                    .register(registry);
+            Gauge.builder("telemetry.export.pending", exporter, value -> value.stats().pending())
+                    .description("Events queued for the export writer")
+                    .register(registry);
+        });
+    }
+}
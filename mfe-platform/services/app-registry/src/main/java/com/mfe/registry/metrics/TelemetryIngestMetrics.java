@@ -0,0 +1,43 @@
+package com.mfe.registry.metrics;
+
+import com.mfe.registry.web.TelemetryController;
+import com.mfe.registry.web.TelemetryIngestListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TelemetryIngestMetrics implements TelemetryIngestListener {
+
+    private static final int MAX_REMOTES = 64;
+    private static final String UNKNOWN_REMOTE = "unknown";
+    private static final String OTHER_REMOTE = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> countersByRemote = new ConcurrentHashMap<>();
+
+    public TelemetryIngestMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onRecord(TelemetryController.TelemetryRecord record) {
+        String remoteId = record.remoteId() == null ? UNKNOWN_REMOTE : record.remoteId();
+        Counter counter = countersByRemote.get(remoteId);
+        if (counter == null) {
+            // remoteId is client supplied; cap the series so arbitrary values cannot grow the registry.
+            String tag = countersByRemote.size() < MAX_REMOTES ? remoteId : OTHER_REMOTE;
+            counter = countersByRemote.computeIfAbsent(tag, this::register);
+        }
+        counter.increment();
+    }
+
+    private Counter register(String remoteId) {
+        return Counter.builder("telemetry.events.ingested")
+                .description("Accepted telemetry events by remote")
+                .tag("remoteId", remoteId)
+                .register(meterRegistry);
+    }
+}
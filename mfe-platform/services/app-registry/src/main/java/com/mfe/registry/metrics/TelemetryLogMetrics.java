@@ -0,0 +1,41 @@
+package com.mfe.registry.metrics;
+
+import com.mfe.registry.web.TelemetryLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TelemetryLogMetrics implements MeterBinder {
+
+    private final ObjectProvider<TelemetryLog> telemetryLog;
+
+    public TelemetryLogMetrics(ObjectProvider<TelemetryLog> telemetryLog) {
+        this.telemetryLog = telemetryLog;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        telemetryLog.ifAvailable(log -> {
+            FunctionCounter.builder("telemetry.log.appended", log, value -> value.stats().appended())
+                    .description("Events appended to the durable telemetry log")
+                    .register(registry);
+            FunctionCounter.builder("telemetry.log.dropped", log, value -> value.stats().dropped())
+                    .description("Events the durable telemetry log could not accept or write")
+                    .register(registry);
+            FunctionCounter.builder("telemetry.log.fsyncs", log, value -> value.stats().fsyncs())
+                    .description("Group-commit fsync calls")
+                    .register(registry);
+            Gauge.builder("telemetry.log.pending", log, value -> value.stats().pending())
+                    .description("Frames queued for the log writer")
+                    .register(registry);
+            Gauge.builder("telemetry.log.bytes", log, value -> value.stats().bytes())
+                    .description("Bytes held in log segments")
+                    .baseUnit("bytes")
+                    .register(registry);
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package com.mfe.registry.metrics;
+
+import com.mfe.registry.web.TelemetryAggregator;
+import com.mfe.registry.web.TelemetryStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TelemetryStoreMetrics implements MeterBinder {
+
+    private final TelemetryStore telemetryStore;
+    private final TelemetryAggregator telemetryAggregator;
+
+    public TelemetryStoreMetrics(TelemetryStore telemetryStore, TelemetryAggregator telemetryAggregator) {
+        this.telemetryStore = telemetryStore;
+        this.telemetryAggregator = telemetryAggregator;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("telemetry.store.capacity", telemetryStore, store -> store.stats().capacity())
+                .description("Ring buffer capacity")
+                .register(registry);
+        Gauge.builder("telemetry.store.size", telemetryStore, store -> store.stats().size())
+                .description("Events currently held in the ring buffer")
+                .register(registry);
+        FunctionCounter.builder("telemetry.store.ingested", telemetryStore, store -> store.stats().ingested())
+                .description("Events added to the ring buffer")
+                .register(registry);
+        FunctionCounter.builder("telemetry.store.evicted", telemetryStore, store -> store.stats().overwritten())
+                .description("Events overwritten by newer ones")
+                .register(registry);
+        FunctionCounter.builder("telemetry.aggregation.dropped.keys", telemetryAggregator, TelemetryAggregator::droppedKeys)
+                .description("Events not aggregated because the key limit was reached")
+                .register(registry);
+    }
+}
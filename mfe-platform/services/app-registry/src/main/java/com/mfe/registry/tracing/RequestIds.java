@@ -0,0 +1,40 @@
+package com.mfe.registry.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class RequestIds {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final AtomicLong LAST = new AtomicLong();
+    private static final int INSTANCE = ThreadLocalRandom.current().nextInt(1 << 24);
+
+    private RequestIds() {
+    }
+
+    public static String next(String prefix) {
+        long next;
+        while (true) {
+            long last = LAST.get();
+            next = Math.max(last + 1, System.currentTimeMillis() << 16);
+            if (LAST.compareAndSet(last, next)) {
+                break;
+            }
+        }
+
+        int length = prefix.length();
+        char[] id = new char[length + 16 + 1 + 6];
+        prefix.getChars(0, length, id, 0);
+        for (int index = 15; index >= 0; index--) {
+            id[length + index] = HEX[(int) (next & 0xF)];
+            next >>>= 4;
+        }
+        id[length + 16] = '-';
+        int instance = INSTANCE;
+        for (int index = 5; index >= 0; index--) {
+            id[length + 17 + index] = HEX[instance & 0xF];
+            instance >>>= 4;
+        }
+        return new String(id);
+    }
+}
@@ -0,0 +1,132 @@
+package com.mfe.registry.tracing;
+
+public final class RequestTrace {
+
+    public static final String AUTH = "auth";
+    public static final String HANDLER = "handler";
+    public static final String SERIALIZE = "serialize";
+    public static final String TELEMETRY_STORE = "telemetry-store";
+    public static final String LOG = "log";
+
+    private static final int MAX_PHASES = 8;
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final long startedAtNanos;
+    private final long startedAtMillis;
+    private final String[] names = new String[MAX_PHASES];
+    private final long[] durations = new long[MAX_PHASES];
+    private int count;
+    private long handlerStartNanos;
+    private long serializeStartNanos;
+
+    private RequestTrace(long startedAtNanos) {
+        this.startedAtNanos = startedAtNanos;
+        this.startedAtMillis = System.currentTimeMillis();
+    }
+
+    public record Phase(String name, long micros) {
+    }
+
+    public static RequestTrace start() {
+        RequestTrace trace = new RequestTrace(System.nanoTime());
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    // Adds the time since startNanos to a phase of the current request; repeated phases accumulate.
+    public static void record(String phase, long startNanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.add(phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    public void add(String phase, long nanos) {
+        for (int index = 0; index < count; index++) {
+            if (names[index] == phase) {
+                durations[index] += nanos;
+                return;
+            }
+        }
+        if (count < MAX_PHASES) {
+            names[count] = phase;
+            durations[count] = nanos;
+            count++;
+        }
+    }
+
+    public void markHandlerStart(long nanos) {
+        handlerStartNanos = nanos;
+        serializeStartNanos = 0;
+    }
+
+    // Closes the handler phase where body serialization begins; the rest is attributed to serialization.
+    public void markSerializeStart(long nanos) {
+        if (handlerStartNanos != 0 && serializeStartNanos == 0) {
+            add(HANDLER, nanos - handlerStartNanos);
+            serializeStartNanos = nanos;
+        }
+    }
+
+    public void markHandlerEnd(long nanos) {
+        if (handlerStartNanos == 0) {
+            return;
+        }
+        if (serializeStartNanos != 0) {
+            add(SERIALIZE, nanos - serializeStartNanos);
+        } else {
+            add(HANDLER, nanos - handlerStartNanos);
+        }
+        handlerStartNanos = 0;
+        serializeStartNanos = 0;
+    }
+
+    public long startedAtMillis() {
+        return startedAtMillis;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startedAtNanos;
+    }
+
+    public Phase[] phases() {
+        Phase[] phases = new Phase[count];
+        for (int index = 0; index < count; index++) {
+            phases[index] = new Phase(names[index], durations[index] / 1_000);
+        }
+        return phases;
+    }
+
+    // Server-Timing value: phases recorded so far plus "app", the time spent in the service up to now.
+    public String serverTiming() {
+        StringBuilder header = new StringBuilder(24 * (count + 1));
+        for (int index = 0; index < count; index++) {
+            appendMetric(header, names[index], durations[index]);
+            header.append(", ");
+        }
+        appendMetric(header, "app", elapsedNanos());
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos) {
+        // Milliseconds with microsecond precision, without going through String.format.
+        long micros = nanos / 1_000;
+        header.append(name).append(";dur=").append(micros / 1_000).append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) {
+            header.append('0');
+        }
+        if (fraction < 10) {
+            header.append('0');
+        }
+        header.append(fraction);
+    }
+}
@@ -0,0 +1,11 @@
+package com.mfe.registry.tracing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.tracing")
+public record RequestTracingProperties(
+        boolean serverTiming,
+        String timingAllowOrigin,
+        int slowestSize
+) {
+}
@@ -0,0 +1,68 @@
+package com.mfe.registry.tracing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SlowTraceBuffer {
+
+    private final int capacity;
+    private final PriorityQueue<SlowTrace> slowest;
+
+    private volatile long thresholdMicros = -1;
+
+    public SlowTraceBuffer(RequestTracingProperties properties) {
+        this.capacity = Math.max(1, properties.slowestSize());
+        this.slowest = new PriorityQueue<>(capacity, Comparator.comparingLong(SlowTrace::durationMicros));
+    }
+
+    public record SlowTrace(
+            String requestId,
+            String correlationId,
+            String method,
+            String route,
+            String path,
+            int status,
+            long startedAtEpochMs,
+            long durationMicros,
+            List<RequestTrace.Phase> phases
+    ) {
+    }
+
+    public boolean isCandidate(long durationMicros) {
+        return durationMicros > thresholdMicros;
+    }
+
+    public void offer(SlowTrace trace) {
+        synchronized (slowest) {
+            if (slowest.size() < capacity) {
+                slowest.add(trace);
+            } else if (trace.durationMicros() > slowest.peek().durationMicros()) {
+                slowest.poll();
+                slowest.add(trace);
+            }
+            if (slowest.size() == capacity) {
+                thresholdMicros = slowest.peek().durationMicros();
+            }
+        }
+    }
+
+    public List<SlowTrace> slowest() {
+        List<SlowTrace> traces;
+        synchronized (slowest) {
+            traces = new ArrayList<>(slowest);
+        }
+        traces.sort(Comparator.comparingLong(SlowTrace::durationMicros).reversed());
+        return traces;
+    }
+
+    public void clear() {
+        synchronized (slowest) {
+            slowest.clear();
+            thresholdMicros = -1;
+        }
+    }
+}
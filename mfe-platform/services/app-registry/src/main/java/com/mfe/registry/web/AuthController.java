@@ -1,14 +1,16 @@
 package com.mfe.registry.web;
 
+import com.mfe.registry.auth.AdminAuthorizationService;
 import com.mfe.registry.auth.JwtService;
+import com.mfe.registry.logging.StructuredEventLogger;
 import java.util.List;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
@@ -18,12 +20,18 @@ import org.springframework.web.server.ResponseStatusException;
 @CrossOrigin(origins = "${app.cors.allowed-origins:http://localhost:5173}")
 public class AuthController {
 
-    private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
-
     private final JwtService jwtService;
+    private final AdminAuthorizationService adminAuthorizationService;
+    private final StructuredEventLogger eventLogger;
 
-    public AuthController(JwtService jwtService) {
+    public AuthController(
+            JwtService jwtService,
+            AdminAuthorizationService adminAuthorizationService,
+            StructuredEventLogger eventLogger
+    ) {
         this.jwtService = jwtService;
+        this.adminAuthorizationService = adminAuthorizationService;
+        this.eventLogger = eventLogger;
     }
 
     public record LoginRequest(String username, String password) {
@@ -43,12 +51,17 @@ public class AuthController {
                 : List.of("USER");
 
         String token = jwtService.issueToken(request.username(), roles);
-        logger.info("{{\"event\":\"auth_login_issued\",\"username\":\"{}\",\"roles\":\"{}\",\"correlationId\":\"{}\",\"requestId\":\"{}\",\"sessionId\":\"{}\"}}",
-            request.username(),
-            String.join(",", roles),
-            MDC.get("correlationId"),
-            MDC.get("requestId"),
-            MDC.get("sessionId"));
+        eventLogger.info("auth_login_issued")
+                .field("username", request.username())
+                .field("roles", String.join(",", roles))
+                .correlation()
+                .emit();
         return new LoginResponse(token, "Bearer", 3600, roles);
     }
+
+    @GetMapping("/admin/token-cache")
+    public JwtService.TokenCacheStats getTokenCacheStats(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        adminAuthorizationService.requireAdmin(authorizationHeader);
+        return jwtService.cacheStats();
+    }
 }
@@ -0,0 +1,79 @@
+package com.mfe.registry.web;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+final class BoundedLineReader {
+
+    private final InputStream input;
+    private final int maxLineBytes;
+    private final long maxTotalBytes;
+    private final byte[] buffer = new byte[8192];
+    private byte[] line = new byte[512];
+    private int position;
+    private int limit;
+    private long totalBytes;
+
+    BoundedLineReader(InputStream input, int maxLineBytes, long maxTotalBytes) {
+        this.input = input;
+        this.maxLineBytes = maxLineBytes;
+        this.maxTotalBytes = maxTotalBytes;
+    }
+
+    String readLine() throws IOException {
+        int length = nextLine();
+        return length < 0 ? null : new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+
+    byte[] line() {
+        return line;
+    }
+
+    // Returns the length of the next line, held in line() until the following call, or -1 at end of input.
+    // Counts bytes as read from the (possibly decompressing) stream, so a gzip body is bounded by its inflated size.
+    int nextLine() throws IOException {
+        int length = 0;
+        boolean started = false;
+        while (true) {
+            if (position == limit) {
+                int read = input.read(buffer, 0, buffer.length);
+                if (read < 0) {
+                    return started ? trimCarriageReturn(length) : -1;
+                }
+                totalBytes += read;
+                if (totalBytes > maxTotalBytes) {
+                    throw new ResponseStatusException(
+                            HttpStatus.PAYLOAD_TOO_LARGE,
+                            "Request body exceeds " + maxTotalBytes + " bytes"
+                    );
+                }
+                position = 0;
+                limit = read;
+            }
+
+            started = true;
+            byte current = buffer[position++];
+            if (current == '\n') {
+                return trimCarriageReturn(length);
+            }
+            if (length == maxLineBytes) {
+                throw new ResponseStatusException(
+                        HttpStatus.PAYLOAD_TOO_LARGE,
+                        "Line exceeds " + maxLineBytes + " bytes"
+                );
+            }
+            if (length == line.length) {
+                line = Arrays.copyOf(line, Math.min(maxLineBytes, line.length * 2));
+            }
+            line[length++] = current;
+        }
+    }
+
+    private int trimCarriageReturn(int length) {
+        return length > 0 && line[length - 1] == '\r' ? length - 1 : length;
+    }
+}
@@ -0,0 +1,14 @@
+package com.mfe.registry.web;
+
+public interface CanaryFlagStore {
+
+    record UpdateResult(RegistryController.CanaryFlag flag, boolean applied) {
+    }
+
+    // Null when the remote has never been written. Called on every snapshot rebuild, so it must not block.
+    RegistryController.CanaryFlag get(String remoteId);
+
+    // Writes the next version when expectedVersion is null or equals the current version (0 if never written);
+    // otherwise leaves the flag unchanged and reports applied=false.
+    UpdateResult compareAndSet(String remoteId, Long expectedVersion, boolean enabled, int rolloutPercentage);
+}
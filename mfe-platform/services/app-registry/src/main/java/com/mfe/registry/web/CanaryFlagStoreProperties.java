@@ -0,0 +1,10 @@
+package com.mfe.registry.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.registry.flags")
+public record CanaryFlagStoreProperties(
+        String directory,
+        int compactAfterEntries
+) {
+}
@@ -0,0 +1,259 @@
+package com.mfe.registry.web;
+
+import com.mfe.registry.BackgroundThreads;
+import com.mfe.registry.logging.StructuredEventLogger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "app.registry.canary.auto-rollback", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CanaryRollbackEngine implements TelemetryIngestListener {
+
+    private static final int WINDOW_SLICES = 12;
+    private static final int MAX_TRACKED_USERS = 10_000;
+
+    private final CanaryRollbackProperties properties;
+    private final RegistrySnapshotStore registrySnapshotStore;
+    private final StructuredEventLogger eventLogger;
+    private final Map<String, RemoteWindows> remotes = new ConcurrentHashMap<>();
+    private final AtomicLong rollbacks = new AtomicLong();
+    private final AtomicLong rejectedSamples = new AtomicLong();
+    private final ScheduledExecutorService evaluator;
+
+    public CanaryRollbackEngine(
+            CanaryRollbackProperties properties,
+            RegistrySnapshotStore registrySnapshotStore,
+            StructuredEventLogger eventLogger,
+            BackgroundThreads backgroundThreads
+    ) {
+        this.properties = properties;
+        this.registrySnapshotStore = registrySnapshotStore;
+        this.eventLogger = eventLogger;
+        this.evaluator = backgroundThreads.scheduler("canary-rollback-evaluator");
+        long intervalMillis = properties.evaluationInterval().toMillis();
+        evaluator.scheduleWithFixedDelay(this::evaluate, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public record CanaryRollbackStats(int trackedRemotes, long rollbacks, long rejectedSamples) {
+    }
+
+    // Canary window collected under one flag version; replaced together with it when the flag changes.
+    private record Windows(long flagVersion, RollingLatencyWindow canary, RollingLatencyWindow stable) {
+    }
+
+    // Samples each user has fed into a remote's windows during one window-length period.
+    private record Contributions(long period, Map<String, AtomicInteger> byUser) {
+    }
+
+    private static final class RemoteWindows {
+
+        private final AtomicReference<Windows> current;
+        private volatile Contributions contributions = new Contributions(-1, Map.of());
+        private volatile boolean dirty;
+
+        RemoteWindows(Windows current) {
+            this.current = new AtomicReference<>(current);
+        }
+
+        // Returns the windows for flagVersion, first swapping in a fresh canary window if the flag has moved on.
+        // Canary events recorded under an earlier flag state say nothing about the canary that is live now; the
+        // stable baseline is unaffected and carries over. Null when the caller saw a flag older than the windows.
+        Windows forFlagVersion(long flagVersion, Supplier<RollingLatencyWindow> freshCanary) {
+            Windows windows = current.get();
+            while (windows.flagVersion() < flagVersion) {
+                Windows next = new Windows(flagVersion, freshCanary.get(), windows.stable());
+                if (current.compareAndSet(windows, next)) {
+                    return next;
+                }
+                windows = current.get();
+            }
+            return windows.flagVersion() == flagVersion ? windows : null;
+        }
+
+        boolean admit(String principal, long period, int maxSamplesPerUser) {
+            Contributions active = contributions;
+            if (active.period() != period) {
+                active = new Contributions(period, new ConcurrentHashMap<>());
+                contributions = active;
+            }
+            Map<String, AtomicInteger> byUser = active.byUser();
+            AtomicInteger samples = byUser.get(principal);
+            if (samples == null) {
+                if (byUser.size() >= MAX_TRACKED_USERS) {
+                    return false;
+                }
+                samples = byUser.computeIfAbsent(principal, ignored -> new AtomicInteger());
+            }
+            return samples.incrementAndGet() <= maxSamplesPerUser;
+        }
+    }
+
+    @Override
+    public void onRecord(TelemetryController.TelemetryRecord record) {
+        onRecord(record, null);
+    }
+
+    // Telemetry is client-reported, so only events that carry a verified token, claim the variant the registry
+    // assigns that user, and stay within the user's per-window sample allowance reach the windows.
+    @Override
+    public void onRecord(TelemetryController.TelemetryRecord record, String principal) {
+        if (TelemetryClassifier.isFunnelOnly(record)) {
+            return;
+        }
+        String variant = TelemetryClassifier.variantOf(record);
+        if (TelemetryClassifier.UNKNOWN.equals(variant)) {
+            return;
+        }
+        String flagId = registrySnapshotStore.routeIdOf(record);
+        if (flagId == null) {
+            return;
+        }
+        if (principal == null) {
+            rejectedSamples.incrementAndGet();
+            return;
+        }
+        RegistryController.CanaryFlag flag = registrySnapshotStore.canaryFlag(flagId);
+        boolean assignedCanary = flag.enabled() && CanaryRollout.isInCanaryRollout(principal, flagId, flag.rolloutPercentage());
+        if (assignedCanary != TelemetryClassifier.CANARY.equals(variant)) {
+            rejectedSamples.incrementAndGet();
+            return;
+        }
+
+        // Only registered remotes get windows, so the map is bounded by the route table, not by client input.
+        RemoteWindows remote = remotes.computeIfAbsent(flagId, ignored -> new RemoteWindows(newWindows(flag.version())));
+        long now = System.currentTimeMillis();
+        if (!remote.admit(principal, now / properties.window().toMillis(), properties.maxSamplesPerUser())) {
+            rejectedSamples.incrementAndGet();
+            return;
+        }
+        // Reset before recording, so the first canary sample after a flag change lands in the new window.
+        Windows windows = remote.forFlagVersion(flag.version(), this::newWindow);
+        if (windows == null) {
+            rejectedSamples.incrementAndGet();
+            return;
+        }
+        RollingLatencyWindow window = TelemetryClassifier.CANARY.equals(variant) ? windows.canary() : windows.stable();
+        window.record(now, record.durationMs(), TelemetryClassifier.isFailure(record));
+        remote.dirty = true;
+    }
+
+    public CanaryRollbackStats stats() {
+        return new CanaryRollbackStats(remotes.size(), rollbacks.get(), rejectedSamples.get());
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void close() {
+        evaluator.shutdownNow();
+    }
+
+    private void evaluate() {
+        try {
+            long now = System.currentTimeMillis();
+            remotes.forEach((flagId, remote) -> {
+                if (remote.dirty) {
+                    remote.dirty = false;
+                    evaluate(flagId, remote, now);
+                }
+            });
+        } catch (RuntimeException ex) {
+            // A failure here must not cancel the schedule.
+            eventLogger.error("canary_rollback_evaluation_failed")
+                    .field("error", ex.getMessage())
+                    .emit();
+        }
+    }
+
+    private void evaluate(String flagId, RemoteWindows remote, long now) {
+        if (!registrySnapshotStore.isKnownRemote(flagId)) {
+            // Route removed by a definitions reload.
+            remotes.remove(flagId);
+            return;
+        }
+        RegistryController.CanaryFlag flag = registrySnapshotStore.canaryFlag(flagId);
+        Windows windows = remote.forFlagVersion(flag.version(), this::newWindow);
+        if (windows == null) {
+            return;
+        }
+        if (!flag.enabled() || flag.rolloutPercentage() == 0) {
+            return;
+        }
+
+        RollingLatencyWindow.Summary canary = windows.canary().summarize(now);
+        if (canary.count() < properties.minSamples()) {
+            return;
+        }
+        RollingLatencyWindow.Summary stable = windows.stable().summarize(now);
+        String reason = breach(canary, stable);
+        if (reason == null) {
+            return;
+        }
+
+        CanaryFlagStore.UpdateResult result = registrySnapshotStore.updateCanaryFlag(
+                flagId,
+                flag.version(),
+                false,
+                flag.rolloutPercentage()
+        );
+        if (!result.applied()) {
+            // An admin changed the flag in the meantime; their decision stands and the next tick re-evaluates.
+            return;
+        }
+        rollbacks.incrementAndGet();
+        eventLogger.warn("canary_auto_rollback")
+                .field("remoteId", flagId)
+                .field("reason", reason)
+                .field("rolloutPercentage", flag.rolloutPercentage())
+                .field("canarySamples", canary.count())
+                .field("canaryErrorRate", errorRate(canary))
+                .field("canaryP95Ms", canary.p95())
+                .field("stableSamples", stable.count())
+                .field("stableErrorRate", errorRate(stable))
+                .field("stableP95Ms", stable.p95())
+                .field("flagVersion", result.flag().version())
+                .field("registryVersion", registrySnapshotStore.current().version())
+                .emit();
+    }
+
+    private String breach(RollingLatencyWindow.Summary canary, RollingLatencyWindow.Summary stable) {
+        double canaryErrorRate = errorRate(canary);
+        if (canaryErrorRate > properties.maxErrorRate()) {
+            return "error_rate";
+        }
+        // Relative checks need a stable baseline; at 100% rollout only the absolute cap applies.
+        if (stable.count() < properties.minSamples()) {
+            return null;
+        }
+        if (canaryErrorRate > errorRate(stable) + properties.errorRateMargin()) {
+            return "error_rate_vs_stable";
+        }
+        if (canary.timed() >= properties.minSamples()
+                && stable.timed() >= properties.minSamples()
+                && canary.p95() > stable.p95() * properties.p95Ratio()
+                && canary.p95() - stable.p95() > properties.p95MarginMs()) {
+            return "p95_vs_stable";
+        }
+        return null;
+    }
+
+    private Windows newWindows(long flagVersion) {
+        return new Windows(flagVersion, newWindow(), newWindow());
+    }
+
+    private RollingLatencyWindow newWindow() {
+        return new RollingLatencyWindow(properties.window().toMillis(), WINDOW_SLICES);
+    }
+
+    private static double errorRate(RollingLatencyWindow.Summary summary) {
+        return summary.count() == 0 ? 0 : (double) summary.failures() / summary.count();
+    }
+}
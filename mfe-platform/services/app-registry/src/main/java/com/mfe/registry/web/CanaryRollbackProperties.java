@@ -0,0 +1,18 @@
+package com.mfe.registry.web;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.registry.canary.auto-rollback")
+public record CanaryRollbackProperties(
+        boolean enabled,
+        Duration window,
+        Duration evaluationInterval,
+        int minSamples,
+        int maxSamplesPerUser,
+        double maxErrorRate,
+        double errorRateMargin,
+        double p95Ratio,
+        long p95MarginMs
+) {
+}
@@ -0,0 +1,21 @@
+package com.mfe.registry.web;
+
+public final class CanaryRollout {
+
+    private CanaryRollout() {
+    }
+
+    public static int hashToPercentage(String value) {
+        int hash = 0;
+        for (int index = 0; index < value.length(); index++) {
+            hash = hash * 31 + value.charAt(index);
+        }
+        return (int) (Integer.toUnsignedLong(hash) % 100);
+    }
+
+    public static boolean isInCanaryRollout(String userId, String routeId, int canaryPercentage) {
+        int clamped = Math.max(0, Math.min(100, canaryPercentage));
+        int bucket = hashToPercentage(userId + ":" + routeId);
+        return bucket < clamped;
+    }
+}
@@ -0,0 +1,222 @@
+package com.mfe.registry.web;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mfe.registry.logging.StructuredEventLogger;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "app.registry.flags", name = "store", havingValue = "file", matchIfMissing = true)
+public class FileCanaryFlagStore implements CanaryFlagStore {
+
+    private static final String SNAPSHOT_FILE = "flags.json";
+    private static final String JOURNAL_FILE = "flags.journal";
+    private static final int CRC_HEX_LENGTH = 8;
+
+    private final ObjectMapper objectMapper;
+    private final StructuredEventLogger eventLogger;
+    private final int compactAfterEntries;
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final Map<String, RegistryController.CanaryFlag> flags = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private FileChannel journal;
+    private int journalEntries;
+
+    public FileCanaryFlagStore(
+            CanaryFlagStoreProperties properties,
+            ObjectMapper objectMapper,
+            StructuredEventLogger eventLogger
+    ) throws IOException {
+        this.objectMapper = objectMapper;
+        this.eventLogger = eventLogger;
+        this.compactAfterEntries = properties.compactAfterEntries();
+        Path directory = Path.of(properties.directory());
+        this.snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        this.journalPath = directory.resolve(JOURNAL_FILE);
+
+        Files.createDirectories(directory);
+        recover();
+        journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        if (journalEntries > 0) {
+            compact();
+        }
+    }
+
+    @Override
+    public RegistryController.CanaryFlag get(String remoteId) {
+        return flags.get(remoteId);
+    }
+
+    // Journal first, then memory: a flag that readers can see is always one that survives a restart.
+    @Override
+    public UpdateResult compareAndSet(String remoteId, Long expectedVersion, boolean enabled, int rolloutPercentage) {
+        lock.lock();
+        try {
+            RegistryController.CanaryFlag current = flags.get(remoteId);
+            long currentVersion = current == null ? 0 : current.version();
+            if (expectedVersion != null && expectedVersion != currentVersion) {
+                return new UpdateResult(current, false);
+            }
+
+            RegistryController.CanaryFlag updated = new RegistryController.CanaryFlag(remoteId, enabled, rolloutPercentage, currentVersion + 1);
+            try {
+                append(updated);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Unable to journal canary flag " + remoteId, ex);
+            }
+            flags.put(remoteId, updated);
+
+            if (++journalEntries >= compactAfterEntries) {
+                try {
+                    compact();
+                } catch (IOException ex) {
+                    // The journal still holds every write; compaction is retried on the next update.
+                    eventLogger.warn("canary_flag_compaction_failed")
+                            .field("directory", snapshotPath.getParent().toString())
+                            .field("error", ex.getMessage())
+                            .emit();
+                }
+            }
+            return new UpdateResult(updated, true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            journal.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void append(RegistryController.CanaryFlag flag) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(flag);
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        String prefix = String.format("%08x ", crc.getValue());
+
+        ByteBuffer buffer = ByteBuffer.allocate(prefix.length() + json.length + 1);
+        buffer.put(prefix.getBytes(StandardCharsets.US_ASCII)).put(json).put((byte) '\n').flip();
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+        journal.force(false);
+    }
+
+    // Writes the full flag set beside the snapshot, swaps it in atomically, then empties the journal. A crash between
+    // the swap and the truncate only replays entries whose versions the snapshot already has.
+    private void compact() throws IOException {
+        Path temporary = snapshotPath.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(objectMapper.writeValueAsBytes(List.copyOf(flags.values())));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        journal.truncate(0);
+        journal.force(true);
+
+        eventLogger.info("canary_flags_compacted")
+                .field("flags", flags.size())
+                .field("journalEntries", journalEntries)
+                .emit();
+        journalEntries = 0;
+    }
+
+    private void recover() throws IOException {
+        if (Files.exists(snapshotPath)) {
+            List<RegistryController.CanaryFlag> snapshot = objectMapper.readValue(
+                    snapshotPath.toFile(),
+                    new TypeReference<List<RegistryController.CanaryFlag>>() { }
+            );
+            for (RegistryController.CanaryFlag flag : snapshot) {
+                flags.put(flag.remoteId(), flag);
+            }
+        }
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        byte[] content = Files.readAllBytes(journalPath);
+        int position = 0;
+        while (position < content.length) {
+            int end = indexOf(content, (byte) '\n', position);
+            RegistryController.CanaryFlag flag = end < 0 ? null : decode(content, position, end);
+            if (flag == null) {
+                // Torn or corrupt tail from a crash mid-append: keep everything before it.
+                try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                    channel.truncate(position);
+                }
+                eventLogger.warn("canary_flag_journal_truncated")
+                        .field("validBytes", position)
+                        .field("discardedBytes", content.length - position)
+                        .emit();
+                break;
+            }
+            RegistryController.CanaryFlag existing = flags.get(flag.remoteId());
+            if (existing == null || existing.version() < flag.version()) {
+                flags.put(flag.remoteId(), flag);
+            }
+            journalEntries++;
+            position = end + 1;
+        }
+
+        if (!flags.isEmpty()) {
+            eventLogger.info("canary_flags_recovered")
+                    .field("flags", flags.size())
+                    .field("journalEntries", journalEntries)
+                    .emit();
+        }
+    }
+
+    private RegistryController.CanaryFlag decode(byte[] content, int start, int end) {
+        if (end - start <= CRC_HEX_LENGTH + 1 || content[start + CRC_HEX_LENGTH] != ' ') {
+            return null;
+        }
+        int jsonStart = start + CRC_HEX_LENGTH + 1;
+        CRC32 crc = new CRC32();
+        crc.update(content, jsonStart, end - jsonStart);
+        try {
+            long expected = Long.parseLong(new String(content, start, CRC_HEX_LENGTH, StandardCharsets.US_ASCII), 16);
+            if (expected != crc.getValue()) {
+                return null;
+            }
+            return objectMapper.readValue(content, jsonStart, end - jsonStart, RegistryController.CanaryFlag.class);
+        } catch (NumberFormatException | IOException ex) {
+            return null;
+        }
+    }
+
+    private static int indexOf(byte[] content, byte value, int from) {
+        for (int index = from; index < content.length; index++) {
+            if (content[index] == value) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,30 @@
+package com.mfe.registry.web;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "app.registry.flags", name = "store", havingValue = "memory")
+public class InMemoryCanaryFlagStore implements CanaryFlagStore {
+
+    private final Map<String, RegistryController.CanaryFlag> flags = new ConcurrentHashMap<>();
+
+    @Override
+    public RegistryController.CanaryFlag get(String remoteId) {
+        return flags.get(remoteId);
+    }
+
+    @Override
+    public synchronized UpdateResult compareAndSet(String remoteId, Long expectedVersion, boolean enabled, int rolloutPercentage) {
+        RegistryController.CanaryFlag current = flags.get(remoteId);
+        long currentVersion = current == null ? 0 : current.version();
+        if (expectedVersion != null && expectedVersion != currentVersion) {
+            return new UpdateResult(current, false);
+        }
+        RegistryController.CanaryFlag updated = new RegistryController.CanaryFlag(remoteId, enabled, rolloutPercentage, currentVersion + 1);
+        flags.put(remoteId, updated);
+        return new UpdateResult(updated, true);
+    }
+}
@@ -0,0 +1,48 @@
+package com.mfe.registry.web;
+
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final long MAX_VALUE = 0xFFFF_FFFFL;
+    public static final int BUCKET_COUNT = SUB_BUCKETS + (63 - Long.numberOfLeadingZeros(MAX_VALUE) - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private LatencyHistogram() {
+    }
+
+    public static int bucketOf(long value) {
+        long clamped = Math.max(0, Math.min(MAX_VALUE, value));
+        if (clamped < SUB_BUCKETS) {
+            return (int) clamped;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(clamped);
+        int subBucket = (int) ((clamped >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    public static long representativeValue(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + subBucket) << shift;
+        long width = 1L << shift;
+        return lower + width / 2;
+    }
+
+    public static long percentile(int[] counts, long total, double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return representativeValue(bucket);
+            }
+        }
+        return representativeValue(counts.length - 1);
+    }
+}
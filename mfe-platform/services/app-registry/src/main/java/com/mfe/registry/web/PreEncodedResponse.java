@@ -0,0 +1,71 @@
+package com.mfe.registry.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+public record PreEncodedResponse(String etag, byte[] json, byte[] gzip) {
+
+    public static PreEncodedResponse of(String etag, byte[] json) {
+        return new PreEncodedResponse(etag, json, gzip(json));
+    }
+
+    public boolean matches(String ifNoneMatch) {
+        return etagMatches(ifNoneMatch, etag);
+    }
+
+    static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        if (ifNoneMatch.equals(etag) || ifNoneMatch.equals("*")) {
+            return true;
+        }
+
+        int from = 0;
+        while (from < ifNoneMatch.length()) {
+            int index = ifNoneMatch.indexOf(etag, from);
+            if (index < 0) {
+                return false;
+            }
+            int end = index + etag.length();
+            boolean startsToken = index == 0 || ifNoneMatch.charAt(index - 1) == ',' || ifNoneMatch.charAt(index - 1) == ' ';
+            boolean endsToken = end == ifNoneMatch.length() || ifNoneMatch.charAt(end) == ',' || ifNoneMatch.charAt(end) == ' ';
+            if (startsToken && endsToken) {
+                return true;
+            }
+            from = end;
+        }
+        return false;
+    }
+
+    static boolean acceptsEncoding(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            if (!parts[0].trim().equalsIgnoreCase(coding)) {
+                continue;
+            }
+            for (int index = 1; index < parts.length; index++) {
+                if (parts[index].trim().matches("q=0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+}
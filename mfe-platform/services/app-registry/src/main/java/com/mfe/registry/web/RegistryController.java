@@ -1,21 +1,28 @@
 package com.mfe.registry.web;
 
 import com.mfe.registry.auth.AdminAuthorizationService;
+import com.mfe.registry.logging.StructuredEventLogger;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -24,52 +31,32 @@ import org.springframework.web.server.ResponseStatusException;
 @CrossOrigin(origins = "${app.cors.allowed-origins:http://localhost:5173}")
 public class RegistryController {
 
-        private static final Logger logger = LoggerFactory.getLogger(RegistryController.class);
+        private static final String GZIP = "gzip";
 
         private final AdminAuthorizationService adminAuthorizationService;
-    private final RegistryRemoteProperties remoteProperties;
-    private final Map<String, CanaryFlag> canaryFlags = new ConcurrentHashMap<>();
+    private final RegistrySnapshotStore registrySnapshotStore;
+    private final ResolvedManifestCache resolvedManifestCache;
+    private final RegistryEventStream registryEventStream;
+    private final RouteCatalog routeCatalog;
+    private final ApplicationAvailability applicationAvailability;
+    private final StructuredEventLogger eventLogger;
 
-    private final List<RouteSeed> routeSeeds;
-
-        public RegistryController(AdminAuthorizationService adminAuthorizationService, RegistryRemoteProperties remoteProperties) {
+        public RegistryController(
+                        AdminAuthorizationService adminAuthorizationService,
+                        RegistrySnapshotStore registrySnapshotStore,
+                        ResolvedManifestCache resolvedManifestCache,
+                        RegistryEventStream registryEventStream,
+                        RouteCatalog routeCatalog,
+                        ApplicationAvailability applicationAvailability,
+                        StructuredEventLogger eventLogger
+        ) {
                 this.adminAuthorizationService = adminAuthorizationService;
-        this.remoteProperties = remoteProperties;
-        this.routeSeeds = List.of(
-            new RouteSeed(
-                "remote-accounts",
-                "Accounts",
-                "/accounts",
-                List.of("USER", "ADMIN"),
-                "remote_accounts",
-                "./App",
-                new RemoteVersion(remoteProperties.accountsStableUrl(), "1.0.0-stable"),
-                new RemoteVersion(remoteProperties.accountsCanaryUrl(), "1.0.0-canary")
-            ),
-            new RouteSeed(
-                "remote-billing",
-                "Billing",
-                "/billing",
-                List.of("USER", "ADMIN"),
-                "remote_billing",
-                "./App",
-                new RemoteVersion(remoteProperties.billingStableUrl(), "1.0.0-stable"),
-                new RemoteVersion(remoteProperties.billingCanaryUrl(), "1.0.0-canary")
-            ),
-            new RouteSeed(
-                "remote-analytics",
-                "Analytics",
-                "/analytics",
-                                List.of("USER", "ADMIN"),
-                "remote_analytics",
-                "./App",
-                new RemoteVersion(remoteProperties.analyticsStableUrl(), "1.0.0-stable"),
-                new RemoteVersion(remoteProperties.analyticsCanaryUrl(), "1.0.0-canary")
-            )
-        );
-        canaryFlags.put("remote-accounts", new CanaryFlag("remote-accounts", false, 0));
-        canaryFlags.put("remote-billing", new CanaryFlag("remote-billing", false, 0));
-        canaryFlags.put("remote-analytics", new CanaryFlag("remote-analytics", false, 0));
+        this.registrySnapshotStore = registrySnapshotStore;
+        this.resolvedManifestCache = resolvedManifestCache;
+        this.registryEventStream = registryEventStream;
+        this.routeCatalog = routeCatalog;
+        this.applicationAvailability = applicationAvailability;
+        this.eventLogger = eventLogger;
     }
 
     public record RemoteVersion(String url, String version) {
@@ -84,56 +71,111 @@ public class RegistryController {
     public record RouteConfig(String id, String title, String path, List<String> requiredRoles, RemoteConfig remote) {
     }
 
-    public record CanaryFlag(String remoteId, boolean enabled, int rolloutPercentage) {
+    public record CanaryFlag(String remoteId, boolean enabled, int rolloutPercentage, long version) {
     }
 
     public record UpdateCanaryFlagRequest(Boolean enabled, Integer rolloutPercentage) {
     }
 
-    private record RouteSeed(
-            String id,
-            String title,
-            String path,
-            List<String> requiredRoles,
-            String scope,
-            String module,
-            RemoteVersion stable,
-            RemoteVersion canary
-    ) {
+    public record RegistryResponse(String platform, List<RouteConfig> routes) {
+    }
+
+    public record ResolvedRemote(String scope, String module, String url, String version, String variant) {
     }
 
-    public record RegistryResponse(String platform, List<RouteConfig> routes) {
+    public record ResolvedRoute(String id, String title, String path, List<String> requiredRoles, ResolvedRemote remote) {
+    }
+
+    public record ResolvedManifest(String platform, long registryVersion, List<ResolvedRoute> routes) {
+    }
+
+    public record RouteReloadResult(boolean changed, int routes, long registryVersion) {
     }
 
     @GetMapping
-    public RegistryResponse getRegistry() {
-        List<RouteConfig> routes = routeSeeds.stream().map(this::buildRoute).toList();
+    public void getRegistry(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response
+    ) throws IOException {
+        writeEncoded(registrySnapshotStore.current().encoded(), ifNoneMatch, acceptEncoding, response);
+    }
 
-        return new RegistryResponse(
-                "mfe-platform",
-                routes
-        );
+    @GetMapping("/resolved")
+    public void getResolvedManifest(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorizationHeader,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response
+    ) throws IOException {
+        String userId = "anonymous";
+        if (authorizationHeader != null && !authorizationHeader.isBlank()) {
+            userId = adminAuthorizationService.validateBearerToken(authorizationHeader).getSubject();
+        }
+
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        writeEncoded(resolvedManifestCache.resolve(userId), ifNoneMatch, acceptEncoding, response);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void streamRegistry(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        registryEventStream.subscribe(request, response, lastEventId);
+    }
+
+    @GetMapping("/resolve")
+    public RouteConfig resolveRoute(@RequestParam(value = "path", required = false) String path) {
+        if (path == null || !path.startsWith("/")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "path must start with /");
+        }
+        // Table and routes come from the same snapshot, so the index always points at the matching entry.
+        RegistrySnapshot snapshot = registrySnapshotStore.current();
+        int index = snapshot.routeTable().resolve(path);
+        if (index < 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No route matches path");
+        }
+        return snapshot.response().routes().get(index);
     }
 
     @GetMapping("/admin/routes")
     public RegistryResponse getAdminRoutes(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
                 adminAuthorizationService.requireAdmin(authorizationHeader);
-        return getRegistry();
+        return registrySnapshotStore.current().response();
+    }
+
+    @PostMapping("/admin/routes/reload")
+    public RouteReloadResult reloadRoutes(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        adminAuthorizationService.requireAdmin(authorizationHeader);
+
+        RouteCatalog.ReloadResult result;
+        try {
+            result = routeCatalog.reload();
+        } catch (IllegalArgumentException | UncheckedIOException ex) {
+            eventLogger.warn("route_definitions_rejected")
+                    .field("error", ex.getMessage())
+                    .correlation()
+                    .emit();
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage());
+        }
+        return new RouteReloadResult(result.changed(), result.routes(), registrySnapshotStore.current().version());
     }
 
         @GetMapping("/admin/canary-flags")
         public List<CanaryFlag> getCanaryFlags(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
                 adminAuthorizationService.requireAdmin(authorizationHeader);
-                return routeSeeds.stream()
-                                .map(seed -> canaryFlags.getOrDefault(seed.id(), new CanaryFlag(seed.id(), false, 0)))
-                                .toList();
+                return registrySnapshotStore.current().canaryFlags();
         }
 
         @PutMapping("/admin/canary-flags/{remoteId}")
         public CanaryFlag updateCanaryFlag(
                         @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                         @PathVariable String remoteId,
-                        @RequestBody UpdateCanaryFlagRequest request
+                        @RequestBody UpdateCanaryFlagRequest request,
+                        HttpServletResponse response
         ) {
                 adminAuthorizationService.requireAdmin(authorizationHeader);
 
@@ -145,44 +187,95 @@ public class RegistryController {
                         throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "rolloutPercentage must be between 0 and 100");
                 }
 
-                boolean knownRemote = routeSeeds.stream().anyMatch(seed -> seed.id().equals(remoteId));
-                if (!knownRemote) {
+                if (!registrySnapshotStore.isKnownRemote(remoteId)) {
                         throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown remoteId");
                 }
 
-                CanaryFlag updated = new CanaryFlag(remoteId, request.enabled(), request.rolloutPercentage());
-                canaryFlags.put(remoteId, updated);
-                logger.info("{{\"event\":\"canary_flag_updated\",\"remoteId\":\"{}\",\"enabled\":{},\"rolloutPercentage\":{},\"correlationId\":\"{}\",\"requestId\":\"{}\",\"sessionId\":\"{}\"}}",
-                        remoteId,
-                        updated.enabled(),
-                        updated.rolloutPercentage(),
-                        MDC.get("correlationId"),
-                        MDC.get("requestId"),
-                        MDC.get("sessionId"));
+                Long expectedVersion = expectedVersion(ifMatch);
+                CanaryFlagStore.UpdateResult result = registrySnapshotStore.updateCanaryFlag(
+                                remoteId,
+                                expectedVersion,
+                                request.enabled(),
+                                request.rolloutPercentage()
+                );
+                CanaryFlag current = result.flag() != null ? result.flag() : registrySnapshotStore.canaryFlag(remoteId);
+                response.setHeader(HttpHeaders.ETAG, flagEtag(current));
+                if (!result.applied()) {
+                        eventLogger.warn("canary_flag_update_conflict")
+                                .field("remoteId", remoteId)
+                                .field("expectedVersion", expectedVersion)
+                                .field("currentVersion", current.version())
+                                .correlation()
+                                .emit();
+                        throw new ResponseStatusException(
+                                        HttpStatus.PRECONDITION_FAILED,
+                                        "Canary flag was modified concurrently; current version is " + current.version()
+                        );
+                }
+
+                CanaryFlag updated = result.flag();
+                eventLogger.info("canary_flag_updated")
+                        .field("remoteId", remoteId)
+                        .field("enabled", updated.enabled())
+                        .field("rolloutPercentage", updated.rolloutPercentage())
+                        .field("flagVersion", updated.version())
+                        .field("registryVersion", registrySnapshotStore.current().version())
+                        .correlation()
+                        .emit();
                 return updated;
         }
 
     @GetMapping("/health")
-    public Map<String, String> health() {
-        return Map.of("status", "UP");
-    }
-
-        private RouteConfig buildRoute(RouteSeed seed) {
-                CanaryFlag flag = canaryFlags.getOrDefault(seed.id(), new CanaryFlag(seed.id(), false, 0));
-
-                return new RouteConfig(
-                                seed.id(),
-                                seed.title(),
-                                seed.path(),
-                                seed.requiredRoles(),
-                                new RemoteConfig(
-                                                seed.scope(),
-                                                seed.module(),
-                                                seed.stable(),
-                                                seed.canary(),
-                                                new RolloutConfig(flag.enabled(), flag.rolloutPercentage())
-                                )
-                );
+    public ResponseEntity<Map<String, String>> health() {
+        // Readiness opens once RegistryWarmup has run and closes again when graceful shutdown begins.
+        if (applicationAvailability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("status", "OUT_OF_SERVICE"));
+        }
+        return ResponseEntity.ok(Map.of("status", "UP"));
+    }
+
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "If-Match must be a quoted flag version");
         }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "If-Match must be a quoted flag version");
+        }
+    }
+
+    private static String flagEtag(CanaryFlag flag) {
+        return "\"" + flag.version() + "\"";
+    }
+
+    private void writeEncoded(
+            PreEncodedResponse encoded,
+            String ifNoneMatch,
+            String acceptEncoding,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, encoded.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (encoded.matches(ifNoneMatch)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        byte[] body = encoded.json();
+        if (PreEncodedResponse.acceptsEncoding(acceptEncoding, GZIP)) {
+            body = encoded.gzip();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
 
 }
@@ -0,0 +1,356 @@
+package com.mfe.registry.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mfe.registry.BackgroundThreads;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class RegistryEventStream implements RegistrySnapshotListener {
+
+    private static final int HISTORY_SIZE = 128;
+    private static final long FULL_SNAPSHOT = -1;
+    private static final byte[] HEARTBEAT = ": ping\n\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final ObjectMapper objectMapper;
+    private final RegistryStreamProperties properties;
+    private final String bootId = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+    private final byte[] retryLine;
+    private final AtomicReferenceArray<RegistrySnapshot> history = new AtomicReferenceArray<>(HISTORY_SIZE);
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicBoolean fanOutScheduled = new AtomicBoolean();
+    private final AtomicLong eventsDelivered = new AtomicLong();
+    private final AtomicLong heartbeatsDelivered = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final ScheduledExecutorService dispatcher;
+
+    private volatile EncodedEvents latest;
+
+    public RegistryEventStream(
+            ObjectMapper objectMapper,
+            RegistryStreamProperties properties,
+            RegistrySnapshotStore registrySnapshotStore,
+            BackgroundThreads backgroundThreads
+    ) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.retryLine = ("retry: " + properties.retry().toMillis() + "\n\n").getBytes(StandardCharsets.US_ASCII);
+        this.dispatcher = backgroundThreads.scheduler("registry-stream-dispatcher");
+
+        onSnapshot(registrySnapshotStore.current());
+        registrySnapshotStore.addListener(this);
+
+        long heartbeatMillis = properties.heartbeatInterval().toMillis();
+        dispatcher.scheduleAtFixedRate(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public record SnapshotEvent(long version, List<RegistryController.CanaryFlag> canaryFlags) {
+    }
+
+    public record CanaryFlagsDelta(long version, long previousVersion, List<RegistryController.CanaryFlag> changes) {
+    }
+
+    public record RegistryChanged(long version, long previousVersion) {
+    }
+
+    public record RegistryStreamStats(int subscribers, long eventsDelivered, long heartbeatsDelivered, long rejected) {
+    }
+
+    // Every subscriber at the same version receives the same bytes, so each (from, to) pair is encoded once.
+    private record EncodedEvents(RegistrySnapshot snapshot, Map<Long, byte[]> byPreviousVersion) {
+    }
+
+    public void subscribe(HttpServletRequest request, HttpServletResponse response, String lastEventId) throws IOException {
+        if (subscriberCount.incrementAndGet() > properties.maxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            rejected.incrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Registry stream is at capacity");
+        }
+
+        Subscriber subscriber = null;
+        try {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+            response.setHeader("X-Accel-Buffering", "no");
+
+            AsyncContext context = request.startAsync();
+            context.setTimeout(0);
+            // The container's own stream, not Spring MVC's async wrapper, which is only meant for the handler thread.
+            subscriber = new Subscriber(context, context.getResponse().getOutputStream(), resumeVersion(lastEventId));
+            context.addListener(subscriber);
+            // Tomcat calls onWritePossible once this request thread returns; from then on writes never block.
+            subscriber.out.setWriteListener(subscriber);
+        } catch (IOException | RuntimeException ex) {
+            // Gives the slot back; release() is idempotent, so a later onComplete cannot count it twice.
+            if (subscriber != null) {
+                subscriber.release();
+            } else {
+                subscriberCount.decrementAndGet();
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public synchronized void onSnapshot(RegistrySnapshot snapshot) {
+        int slot = (int) (snapshot.version() % HISTORY_SIZE);
+        RegistrySnapshot existing = history.get(slot);
+        if (existing == null || existing.version() < snapshot.version()) {
+            history.set(slot, snapshot);
+        }
+        if (latest != null && latest.snapshot().version() >= snapshot.version()) {
+            return;
+        }
+        latest = new EncodedEvents(snapshot, new ConcurrentHashMap<>());
+        if (fanOutScheduled.compareAndSet(false, true)) {
+            dispatcher.execute(this::fanOut);
+        }
+    }
+
+    public RegistryStreamStats stats() {
+        return new RegistryStreamStats(subscribers.size(), eventsDelivered.get(), heartbeatsDelivered.get(), rejected.get());
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void close() {
+        dispatcher.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+    }
+
+    private void fanOut() {
+        // Cleared first so a snapshot published mid-loop schedules another pass instead of being missed.
+        fanOutScheduled.set(false);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.drain();
+        }
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            subscriber.drain();
+        }
+    }
+
+    private long resumeVersion(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(bootId + "-")) {
+            return FULL_SNAPSHOT;
+        }
+        try {
+            long version = Long.parseLong(lastEventId.substring(bootId.length() + 1));
+            return version <= latest.snapshot().version() ? version : FULL_SNAPSHOT;
+        } catch (NumberFormatException ex) {
+            return FULL_SNAPSHOT;
+        }
+    }
+
+    private byte[] eventSince(EncodedEvents events, long previousVersion) {
+        return events.byPreviousVersion().computeIfAbsent(previousVersion, from -> encode(events.snapshot(), from));
+    }
+
+    private byte[] encode(RegistrySnapshot snapshot, long previousVersion) {
+        RegistrySnapshot previous = previousVersion == FULL_SNAPSHOT ? null : history.get((int) (previousVersion % HISTORY_SIZE));
+        try {
+            if (previous == null || previous.version() != previousVersion) {
+                // Unknown or evicted resume point: the client rebuilds its state from a full snapshot.
+                return frame("snapshot", snapshot.version(), new SnapshotEvent(snapshot.version(), snapshot.canaryFlags()));
+            }
+            if (previous.routeTable() != snapshot.routeTable()) {
+                // Routes were reloaded in between; flag deltas cannot describe that, so the client refetches /api/registry.
+                return frame("registry", snapshot.version(), new RegistryChanged(snapshot.version(), previous.version()));
+            }
+            return frame("canary-flags", snapshot.version(), new CanaryFlagsDelta(
+                    snapshot.version(),
+                    previous.version(),
+                    changedFlags(previous.canaryFlags(), snapshot.canaryFlags())
+            ));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to encode registry stream event", ex);
+        }
+    }
+
+    private byte[] frame(String event, long version, Object payload) throws JsonProcessingException {
+        return ("event: " + event + "\nid: " + bootId + "-" + version + "\ndata: "
+                + objectMapper.writeValueAsString(payload) + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<RegistryController.CanaryFlag> changedFlags(
+            List<RegistryController.CanaryFlag> before,
+            List<RegistryController.CanaryFlag> after
+    ) {
+        Map<String, RegistryController.CanaryFlag> previous = new HashMap<>();
+        for (RegistryController.CanaryFlag flag : before) {
+            previous.put(flag.remoteId(), flag);
+        }
+        List<RegistryController.CanaryFlag> changes = new ArrayList<>();
+        for (RegistryController.CanaryFlag flag : after) {
+            if (!flag.equals(previous.get(flag.remoteId()))) {
+                changes.add(flag);
+            }
+        }
+        return changes;
+    }
+
+    private final class Subscriber implements WriteListener, AsyncListener {
+
+        private final AsyncContext context;
+        private final ServletOutputStream out;
+        private final ReentrantLock lock = new ReentrantLock();
+        private long deliveredVersion;
+        private boolean closed;
+        private boolean registered;
+        private boolean greeted;
+        private boolean unflushed;
+        private volatile boolean heartbeatDue;
+
+        Subscriber(AsyncContext context, ServletOutputStream out, long deliveredVersion) {
+            this.context = context;
+            this.out = out;
+            this.deliveredVersion = deliveredVersion;
+        }
+
+        // Only writes while the socket accepts data. A slow consumer simply falls behind and, once writable
+        // again, receives a single delta from its last delivered version instead of a per-change backlog.
+        void drain() {
+            lock.lock();
+            try {
+                while (!closed && out.isReady()) {
+                    byte[] next = nextChunk();
+                    if (next == null) {
+                        if (unflushed) {
+                            unflushed = false;
+                            out.flush();
+                        }
+                        return;
+                    }
+                    out.write(next);
+                    unflushed = true;
+                }
+            } catch (IOException | RuntimeException ex) {
+                // Only detach here: Tomcat reports the failure through onError on a container thread, and
+                // completing from this thread at the same time can recycle the request twice.
+                release();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private byte[] nextChunk() {
+            if (!greeted) {
+                greeted = true;
+                return retryLine;
+            }
+            EncodedEvents events = latest;
+            if (events.snapshot().version() != deliveredVersion) {
+                byte[] event = eventSince(events, deliveredVersion);
+                deliveredVersion = events.snapshot().version();
+                eventsDelivered.incrementAndGet();
+                return event;
+            }
+            if (heartbeatDue) {
+                heartbeatDue = false;
+                heartbeatsDelivered.incrementAndGet();
+                return HEARTBEAT;
+            }
+            return null;
+        }
+
+        void close() {
+            release();
+            try {
+                context.complete();
+            } catch (RuntimeException ex) {
+                // Already completed, or the container recycled the request after the client went away.
+            }
+        }
+
+        // Container callbacks take the same lock as drain(), so once onComplete returns and Tomcat recycles the
+        // request, the dispatcher can no longer be midway through a write into buffers now owned by another connection.
+        private void release() {
+            lock.lock();
+            try {
+                if (!closed) {
+                    closed = true;
+                    subscribers.remove(this);
+                    subscriberCount.decrementAndGet();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void onWritePossible() {
+            // Joins the fan-out only from the container's first callback: before that the stream is not yet
+            // in non-blocking mode and the dispatcher must not touch it.
+            lock.lock();
+            try {
+                if (!registered && !closed) {
+                    registered = true;
+                    subscribers.add(this);
+                }
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            close();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.mfe.registry.web;
+
+import java.util.List;
+
+public record RegistrySnapshot(
+        long version,
+        RegistryController.RegistryResponse response,
+        List<RegistryController.CanaryFlag> canaryFlags,
+        RouteTable routeTable,
+        PreEncodedResponse encoded
+) {
+}
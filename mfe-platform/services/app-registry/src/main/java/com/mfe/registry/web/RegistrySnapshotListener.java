@@ -0,0 +1,6 @@
+package com.mfe.registry.web;
+
+public interface RegistrySnapshotListener {
+
+    void onSnapshot(RegistrySnapshot snapshot);
+}
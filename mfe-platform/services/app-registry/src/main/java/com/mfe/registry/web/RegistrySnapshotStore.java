@@ -0,0 +1,156 @@
+package com.mfe.registry.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RegistrySnapshotStore {
+
+    private final ObjectMapper objectMapper;
+    private final CanaryFlagStore canaryFlagStore;
+    private final List<RegistrySnapshotListener> listeners = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long version;
+    private volatile RegistrySnapshot current;
+
+    public RegistrySnapshotStore(
+            ObjectMapper objectMapper,
+            RouteCatalog routeCatalog,
+            CanaryFlagStore canaryFlagStore
+    ) {
+        this.objectMapper = objectMapper;
+        this.canaryFlagStore = canaryFlagStore;
+        rebuild(routeCatalog.current());
+        routeCatalog.addListener(this::replaceRoutes);
+    }
+
+    public RegistrySnapshot current() {
+        return current;
+    }
+
+    public RegistryController.CanaryFlag canaryFlag(String remoteId) {
+        RegistryController.CanaryFlag flag = canaryFlagStore.get(remoteId);
+        // Remotes that were never updated start disabled at version 0.
+        return flag != null ? flag : new RegistryController.CanaryFlag(remoteId, false, 0, 0);
+    }
+
+    public boolean isKnownRemote(String remoteId) {
+        return current.routeTable().indexOf(remoteId) >= 0;
+    }
+
+    // Telemetry carries the route id (the flag key) and the federation scope as remoteId; either maps to the route.
+    public String routeIdOf(TelemetryController.TelemetryRecord record) {
+        String routeId = routeIdOf(record.routeId());
+        return routeId != null ? routeId : routeIdOf(record.remoteId());
+    }
+
+    public String routeIdOf(String routeIdOrScope) {
+        if (routeIdOrScope == null) {
+            return null;
+        }
+        RouteTable routeTable = current.routeTable();
+        int index = routeTable.indexOf(routeIdOrScope);
+        if (index < 0) {
+            index = routeTable.indexOfScope(routeIdOrScope);
+        }
+        return index < 0 ? null : routeTable.routes().get(index).id();
+    }
+
+    public void addListener(RegistrySnapshotListener listener) {
+        listeners.add(listener);
+    }
+
+    public RegistryController.CanaryFlag updateCanaryFlag(String remoteId, boolean enabled, int rolloutPercentage) {
+        return updateCanaryFlag(remoteId, null, enabled, rolloutPercentage).flag();
+    }
+
+    public CanaryFlagStore.UpdateResult updateCanaryFlag(String remoteId, Long expectedVersion, boolean enabled, int rolloutPercentage) {
+        CanaryFlagStore.UpdateResult result;
+        RegistrySnapshot published;
+        // A lock rather than a monitor: the file flag store fsyncs its journal inside compareAndSet.
+        lock.lock();
+        try {
+            result = canaryFlagStore.compareAndSet(remoteId, expectedVersion, enabled, rolloutPercentage);
+            if (!result.applied()) {
+                return result;
+            }
+            rebuild(current.routeTable());
+            published = current;
+        } finally {
+            lock.unlock();
+        }
+        publish(published);
+        return result;
+    }
+
+    // Route definitions changed on disk: republish with the new table, carrying stored flags over by remote id.
+    private void replaceRoutes(RouteTable routeTable) {
+        RegistrySnapshot published;
+        lock.lock();
+        try {
+            rebuild(routeTable);
+            published = current;
+        } finally {
+            lock.unlock();
+        }
+        publish(published);
+    }
+
+    private void publish(RegistrySnapshot snapshot) {
+        // Listeners run outside the lock so a slow one cannot stall the next admin update.
+        for (RegistrySnapshotListener listener : listeners) {
+            listener.onSnapshot(snapshot);
+        }
+    }
+
+    private void rebuild(RouteTable routeTable) {
+        // Routes keep the table's order, so a route index from the table addresses the response list directly.
+        List<RegistryController.RouteConfig> routes = routeTable.routes().stream().map(this::buildRoute).toList();
+        List<RegistryController.CanaryFlag> flags = routeTable.routes().stream()
+                .map(route -> canaryFlag(route.id()))
+                .toList();
+        RegistryController.RegistryResponse response = new RegistryController.RegistryResponse(routeTable.platform(), routes);
+
+        byte[] json = serialize(response);
+        version++;
+        current = new RegistrySnapshot(version, response, flags, routeTable, PreEncodedResponse.of(etag(version, json), json));
+    }
+
+    private RegistryController.RouteConfig buildRoute(RouteDefinitions.Route route) {
+        RegistryController.CanaryFlag flag = canaryFlag(route.id());
+
+        return new RegistryController.RouteConfig(
+                route.id(),
+                route.title(),
+                route.path(),
+                route.requiredRoles(),
+                new RegistryController.RemoteConfig(
+                        route.remote().scope(),
+                        route.remote().module(),
+                        route.remote().stable(),
+                        route.remote().canary(),
+                        new RegistryController.RolloutConfig(flag.enabled(), flag.rolloutPercentage())
+                )
+        );
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize registry snapshot", ex);
+        }
+    }
+
+    static String etag(long version, byte[] json) {
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        return "\"v" + version + "-" + Long.toHexString(crc.getValue()) + "\"";
+    }
+}
@@ -0,0 +1,12 @@
+package com.mfe.registry.web;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.registry.stream")
+public record RegistryStreamProperties(
+        Duration heartbeatInterval,
+        Duration retry,
+        int maxSubscribers
+) {
+}
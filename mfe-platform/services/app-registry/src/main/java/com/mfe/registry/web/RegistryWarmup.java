@@ -0,0 +1,44 @@
+package com.mfe.registry.web;
+
+import com.mfe.registry.logging.StructuredEventLogger;
+import java.lang.management.ManagementFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@Lazy(false)
+public class RegistryWarmup {
+
+    private final RegistrySnapshotStore registrySnapshotStore;
+    private final ResolvedManifestCache resolvedManifestCache;
+    private final StructuredEventLogger eventLogger;
+
+    public RegistryWarmup(
+            RegistrySnapshotStore registrySnapshotStore,
+            ResolvedManifestCache resolvedManifestCache,
+            StructuredEventLogger eventLogger
+    ) {
+        this.registrySnapshotStore = registrySnapshotStore;
+        this.resolvedManifestCache = resolvedManifestCache;
+        this.eventLogger = eventLogger;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        long startedAt = System.nanoTime();
+        RegistrySnapshot snapshot = registrySnapshotStore.current();
+        // Signed-out shells all share the anonymous cohort; build its manifest and gzip body now.
+        PreEncodedResponse anonymous = resolvedManifestCache.resolve("anonymous");
+
+        eventLogger.info("registry_warmed")
+                .field("registryVersion", snapshot.version())
+                .field("routes", snapshot.response().routes().size())
+                .field("registryBytes", snapshot.encoded().json().length)
+                .field("resolvedBytes", anonymous.json().length)
+                .field("durationMs", (System.nanoTime() - startedAt) / 1_000_000)
+                .field("uptimeMs", ManagementFactory.getRuntimeMXBean().getUptime())
+                .emit();
+    }
+}
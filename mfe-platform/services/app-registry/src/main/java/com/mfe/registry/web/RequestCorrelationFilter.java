@@ -1,32 +1,57 @@
 package com.mfe.registry.web;
 
+import com.mfe.registry.logging.StructuredEventLogger;
+import com.mfe.registry.metrics.EndpointTimers;
+import com.mfe.registry.tracing.RequestIds;
+import com.mfe.registry.tracing.RequestTrace;
+import com.mfe.registry.tracing.RequestTracingProperties;
+import com.mfe.registry.tracing.SlowTraceBuffer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 @Component
 public class RequestCorrelationFilter extends OncePerRequestFilter {
 
-    private static final Logger logger = LoggerFactory.getLogger(RequestCorrelationFilter.class);
+    private final StructuredEventLogger eventLogger;
+    private final EndpointTimers endpointTimers;
+    private final SlowTraceBuffer slowTraceBuffer;
+    private final boolean serverTiming;
+    private final String timingAllowOrigin;
+
+    public RequestCorrelationFilter(
+            StructuredEventLogger eventLogger,
+            EndpointTimers endpointTimers,
+            SlowTraceBuffer slowTraceBuffer,
+            RequestTracingProperties tracingProperties
+    ) {
+        this.eventLogger = eventLogger;
+        this.endpointTimers = endpointTimers;
+        this.slowTraceBuffer = slowTraceBuffer;
+        this.serverTiming = tracingProperties.serverTiming();
+        this.timingAllowOrigin = tracingProperties.timingAllowOrigin();
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         String correlationId = Optional.ofNullable(request.getHeader("X-Correlation-Id"))
                 .filter(value -> !value.isBlank())
-                .orElseGet(() -> "corr-" + UUID.randomUUID());
+                .orElseGet(() -> RequestIds.next("corr-"));
         String requestId = Optional.ofNullable(request.getHeader("X-Request-Id"))
                 .filter(value -> !value.isBlank())
-                .orElseGet(() -> "req-" + UUID.randomUUID());
+                .orElseGet(() -> RequestIds.next("req-"));
         String sessionId = Optional.ofNullable(request.getHeader("X-Session-Id"))
                 .filter(value -> !value.isBlank())
                 .orElse("session-unknown");
@@ -36,21 +61,131 @@ public class RequestCorrelationFilter extends OncePerRequestFilter {
         MDC.put("correlationId", correlationId);
         MDC.put("requestId", requestId);
         MDC.put("sessionId", sessionId);
+        MDC.put("path", request.getRequestURI());
 
-        long startedAt = System.currentTimeMillis();
+        RequestTrace trace = RequestTrace.start();
+        TracedResponse tracedResponse = new TracedResponse(response, trace, serverTiming);
+        if (serverTiming && timingAllowOrigin != null && !timingAllowOrigin.isBlank()) {
+            // Without it browsers hide Server-Timing from cross-origin callers such as the shell dev server.
+            response.setHeader("Timing-Allow-Origin", timingAllowOrigin);
+        }
+        long startedAt = System.nanoTime();
         try {
-            filterChain.doFilter(request, response);
+            filterChain.doFilter(request, tracedResponse);
         } finally {
-            long durationMs = System.currentTimeMillis() - startedAt;
-            logger.info("{{\"event\":\"http_request\",\"method\":\"{}\",\"path\":\"{}\",\"status\":{},\"durationMs\":{},\"correlationId\":\"{}\",\"requestId\":\"{}\",\"sessionId\":\"{}\"}}",
-                    request.getMethod(),
-                    request.getRequestURI(),
-                    response.getStatus(),
-                    durationMs,
-                    correlationId,
-                    requestId,
-                    sessionId);
+            tracedResponse.bodyStarted();
+            long durationNanos = System.nanoTime() - startedAt;
+            // The registry stream's initial dispatch returns at once with 200; timing it would skew the route.
+            if (!request.isAsyncStarted()) {
+                endpointTimers.record(
+                        request.getMethod(),
+                        (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+                        response.getStatus(),
+                        durationNanos
+                );
+            }
+            long durationMs = durationNanos / 1_000_000;
+            eventLogger.info("http_request")
+                    .field("method", request.getMethod())
+                    .field("path", request.getRequestURI())
+                    .field("status", response.getStatus())
+                    .field("durationMs", durationMs)
+                    .field("correlationId", correlationId)
+                    .field("requestId", requestId)
+                    .field("sessionId", sessionId)
+                    .emit();
+            RequestTrace.record(RequestTrace.LOG, startedAt + durationNanos);
+            offerSlowTrace(request, response.getStatus(), trace, correlationId, requestId);
+            RequestTrace.clear();
             MDC.clear();
         }
     }
+
+    private void offerSlowTrace(
+            HttpServletRequest request,
+            int status,
+            RequestTrace trace,
+            String correlationId,
+            String requestId
+    ) {
+        // Async requests (the registry stream) only finish their initial dispatch here.
+        long durationMicros = trace.elapsedNanos() / 1_000;
+        if (request.isAsyncStarted() || !slowTraceBuffer.isCandidate(durationMicros)) {
+            return;
+        }
+        slowTraceBuffer.offer(new SlowTraceBuffer.SlowTrace(
+                requestId,
+                correlationId,
+                request.getMethod(),
+                (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+                request.getRequestURI(),
+                status,
+                trace.startedAtMillis(),
+                durationMicros,
+                List.of(trace.phases())
+        ));
+    }
+
+    // Opening the body ends the handler phase for handlers that write the response themselves, and is the last
+    // moment Server-Timing can still be set; responses that never open it (304s, sendfile) get the header
+    // when the chain returns.
+    private static final class TracedResponse extends HttpServletResponseWrapper {
+
+        private final RequestTrace trace;
+        private final boolean serverTiming;
+        private boolean started;
+
+        TracedResponse(HttpServletResponse response, RequestTrace trace, boolean serverTiming) {
+            super(response);
+            this.trace = trace;
+            this.serverTiming = serverTiming;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            bodyStarted();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            bodyStarted();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            bodyStarted();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int status, String message) throws IOException {
+            bodyStarted();
+            super.sendError(status, message);
+        }
+
+        @Override
+        public void sendError(int status) throws IOException {
+            bodyStarted();
+            super.sendError(status);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            bodyStarted();
+            super.sendRedirect(location);
+        }
+
+        void bodyStarted() {
+            if (started) {
+                return;
+            }
+            started = true;
+            trace.markSerializeStart(System.nanoTime());
+            if (serverTiming && !isCommitted()) {
+                setHeader("Server-Timing", trace.serverTiming());
+            }
+        }
+    }
 }
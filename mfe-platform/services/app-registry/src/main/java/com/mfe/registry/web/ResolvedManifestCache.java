@@ -0,0 +1,112 @@
+package com.mfe.registry.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ResolvedManifestCache {
+
+    private static final int MAX_CACHED_BUCKET_VECTORS = 4096;
+
+    private final RegistrySnapshotStore registrySnapshotStore;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<Generation> generation = new AtomicReference<>(new Generation(0));
+
+    public ResolvedManifestCache(RegistrySnapshotStore registrySnapshotStore, ObjectMapper objectMapper) {
+        this.registrySnapshotStore = registrySnapshotStore;
+        this.objectMapper = objectMapper;
+    }
+
+    private record Generation(long version, Map<BitSet, PreEncodedResponse> manifests) {
+
+        Generation(long version) {
+            this(version, new ConcurrentHashMap<>());
+        }
+    }
+
+    public PreEncodedResponse resolve(String userId) {
+        RegistrySnapshot snapshot = registrySnapshotStore.current();
+        Generation current = generationFor(snapshot.version());
+        BitSet bucketVector = bucketVector(snapshot, userId);
+
+        PreEncodedResponse cached = current != null ? current.manifests().get(bucketVector) : null;
+        if (cached != null) {
+            return cached;
+        }
+
+        PreEncodedResponse built = build(snapshot, bucketVector);
+        if (current == null || current.manifests().size() >= MAX_CACHED_BUCKET_VECTORS) {
+            return built;
+        }
+        PreEncodedResponse raced = current.manifests().putIfAbsent(bucketVector, built);
+        return raced == null ? built : raced;
+    }
+
+    // A reader holding an older snapshot than the current generation gets no generation, so it never caches into it.
+    private Generation generationFor(long version) {
+        Generation current = generation.get();
+        while (current.version() < version) {
+            Generation next = new Generation(version);
+            if (generation.compareAndSet(current, next)) {
+                return next;
+            }
+            current = generation.get();
+        }
+        return current.version() == version ? current : null;
+    }
+
+    private BitSet bucketVector(RegistrySnapshot snapshot, String userId) {
+        List<RegistryController.RouteConfig> routes = snapshot.response().routes();
+        BitSet bucketVector = new BitSet(routes.size());
+        for (int index = 0; index < routes.size(); index++) {
+            RegistryController.RouteConfig route = routes.get(index);
+            RegistryController.RolloutConfig rollout = route.remote().rollout();
+            if (rollout.canaryEnabled() && CanaryRollout.isInCanaryRollout(userId, route.id(), rollout.canaryPercentage())) {
+                bucketVector.set(index);
+            }
+        }
+        return bucketVector;
+    }
+
+    private PreEncodedResponse build(RegistrySnapshot snapshot, BitSet bucketVector) {
+        List<RegistryController.RouteConfig> routes = snapshot.response().routes();
+        List<RegistryController.ResolvedRoute> resolvedRoutes = new ArrayList<>(routes.size());
+        for (int index = 0; index < routes.size(); index++) {
+            RegistryController.RouteConfig route = routes.get(index);
+            boolean canary = bucketVector.get(index);
+            RegistryController.RemoteVersion target = canary ? route.remote().canary() : route.remote().stable();
+            resolvedRoutes.add(new RegistryController.ResolvedRoute(
+                    route.id(),
+                    route.title(),
+                    route.path(),
+                    route.requiredRoles(),
+                    new RegistryController.ResolvedRemote(
+                            route.remote().scope(),
+                            route.remote().module(),
+                            target.url(),
+                            target.version(),
+                            canary ? "canary" : "stable"
+                    )
+            ));
+        }
+
+        RegistryController.ResolvedManifest manifest = new RegistryController.ResolvedManifest(
+                snapshot.response().platform(),
+                snapshot.version(),
+                resolvedRoutes
+        );
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(manifest);
+            return PreEncodedResponse.of(RegistrySnapshotStore.etag(snapshot.version(), json), json);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize resolved manifest", ex);
+        }
+    }
+}
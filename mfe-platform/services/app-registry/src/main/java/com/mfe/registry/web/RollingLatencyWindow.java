@@ -0,0 +1,89 @@
+package com.mfe.registry.web;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+public final class RollingLatencyWindow {
+
+    private final long sliceMillis;
+    private final long[] sliceEpochs;
+    private final int[][] sliceBuckets;
+    private final long[] sliceCounts;
+    private final long[] sliceFailures;
+    private final long[] sliceTimed;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public RollingLatencyWindow(long windowMillis, int slices) {
+        this.sliceMillis = windowMillis / slices;
+        this.sliceEpochs = new long[slices];
+        this.sliceBuckets = new int[slices][LatencyHistogram.BUCKET_COUNT];
+        this.sliceCounts = new long[slices];
+        this.sliceFailures = new long[slices];
+        this.sliceTimed = new long[slices];
+        Arrays.fill(sliceEpochs, -1);
+    }
+
+    public record Summary(long count, long failures, long timed, long p50, long p95, long p99) {
+    }
+
+    public void record(long nowMillis, Long durationMs, boolean failure) {
+        long epoch = nowMillis / sliceMillis;
+        int slot = (int) (epoch % sliceEpochs.length);
+        lock.lock();
+        try {
+            if (sliceEpochs[slot] != epoch) {
+                sliceEpochs[slot] = epoch;
+                Arrays.fill(sliceBuckets[slot], 0);
+                sliceCounts[slot] = 0;
+                sliceFailures[slot] = 0;
+                sliceTimed[slot] = 0;
+            }
+
+            sliceCounts[slot]++;
+            if (failure) {
+                sliceFailures[slot]++;
+            }
+            if (durationMs != null) {
+                sliceBuckets[slot][LatencyHistogram.bucketOf(durationMs)]++;
+                sliceTimed[slot]++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Summary summarize(long nowMillis) {
+        int[] merged = new int[LatencyHistogram.BUCKET_COUNT];
+        long count = 0;
+        long failures = 0;
+        long timed = 0;
+        long oldestEpoch = nowMillis / sliceMillis - sliceEpochs.length + 1;
+
+        lock.lock();
+        try {
+            for (int slot = 0; slot < sliceEpochs.length; slot++) {
+                if (sliceEpochs[slot] < oldestEpoch) {
+                    continue;
+                }
+                int[] buckets = sliceBuckets[slot];
+                for (int bucket = 0; bucket < buckets.length; bucket++) {
+                    merged[bucket] += buckets[bucket];
+                }
+                count += sliceCounts[slot];
+                failures += sliceFailures[slot];
+                timed += sliceTimed[slot];
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return new Summary(
+                count,
+                failures,
+                timed,
+                LatencyHistogram.percentile(merged, timed, 0.50),
+                LatencyHistogram.percentile(merged, timed, 0.95),
+                LatencyHistogram.percentile(merged, timed, 0.99)
+        );
+    }
+}
@@ -0,0 +1,154 @@
+package com.mfe.registry.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mfe.registry.BackgroundThreads;
+import com.mfe.registry.logging.StructuredEventLogger;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RouteCatalog {
+
+    private final Resource resource;
+    private final Environment environment;
+    private final ObjectMapper objectMapper;
+    private final StructuredEventLogger eventLogger;
+    private final List<Consumer<RouteTable>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService watcher;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile RouteTable current;
+    private long loadedChecksum;
+    private long lastModified;
+
+    public RouteCatalog(
+            RouteCatalogProperties properties,
+            ResourceLoader resourceLoader,
+            Environment environment,
+            ObjectMapper objectMapper,
+            StructuredEventLogger eventLogger,
+            BackgroundThreads backgroundThreads
+    ) {
+        this.resource = resourceLoader.getResource(properties.location());
+        this.environment = environment;
+        this.objectMapper = objectMapper;
+        this.eventLogger = eventLogger;
+
+        // A bad file at startup is fatal; after that, a bad edit is logged and the previous table keeps serving.
+        byte[] content = read();
+        this.current = parse(content);
+        this.loadedChecksum = checksum(content);
+        this.lastModified = lastModified();
+
+        long intervalMillis = properties.reloadInterval() == null ? 0 : properties.reloadInterval().toMillis();
+        if (intervalMillis > 0 && resource.isFile()) {
+            this.watcher = backgroundThreads.scheduler("route-catalog-watcher");
+            watcher.scheduleWithFixedDelay(this::reloadIfModified, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.watcher = null;
+        }
+    }
+
+    public record ReloadResult(boolean changed, int routes) {
+    }
+
+    public RouteTable current() {
+        return current;
+    }
+
+    public void addListener(Consumer<RouteTable> listener) {
+        listeners.add(listener);
+    }
+
+    public ReloadResult reload() {
+        // Reads the definitions file, so a lock rather than a monitor.
+        reloadLock.lock();
+        try {
+            byte[] content = read();
+            lastModified = lastModified();
+            long checksum = checksum(content);
+            if (checksum == loadedChecksum) {
+                return new ReloadResult(false, current.routes().size());
+            }
+
+            RouteTable table = parse(content);
+            current = table;
+            loadedChecksum = checksum;
+            eventLogger.info("route_definitions_reloaded")
+                    .field("location", resource.getDescription())
+                    .field("routes", table.routes().size())
+                    .emit();
+            for (Consumer<RouteTable> listener : listeners) {
+                listener.accept(table);
+            }
+            return new ReloadResult(true, table.routes().size());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (watcher != null) {
+            watcher.shutdownNow();
+        }
+    }
+
+    private void reloadIfModified() {
+        try {
+            if (lastModified() != lastModified) {
+                reload();
+            }
+        } catch (RuntimeException ex) {
+            eventLogger.error("route_definitions_reload_failed")
+                    .field("location", resource.getDescription())
+                    .field("error", ex.getMessage())
+                    .emit();
+        }
+    }
+
+    private RouteTable parse(byte[] content) {
+        String resolved = environment.resolveRequiredPlaceholders(new String(content, StandardCharsets.UTF_8));
+        try {
+            return RouteTable.of(objectMapper.readValue(resolved, RouteDefinitions.class));
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Unable to parse route definitions from " + resource.getDescription(), ex);
+        }
+    }
+
+    private byte[] read() {
+        try (InputStream input = resource.getInputStream()) {
+            return input.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to read route definitions from " + resource.getDescription(), ex);
+        }
+    }
+
+    private long lastModified() {
+        try {
+            return resource.isFile() ? resource.lastModified() : 0;
+        } catch (IOException ex) {
+            return 0;
+        }
+    }
+
+    private static long checksum(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,11 @@
+package com.mfe.registry.web;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.registry.routes")
+public record RouteCatalogProperties(
+        String location,
+        Duration reloadInterval
+) {
+}
@@ -0,0 +1,17 @@
+package com.mfe.registry.web;
+
+import java.util.List;
+
+public record RouteDefinitions(String platform, List<Route> routes, List<String> shellPaths) {
+
+    public record Route(String id, String title, String path, List<String> requiredRoles, Remote remote) {
+    }
+
+    public record Remote(
+            String scope,
+            String module,
+            RegistryController.RemoteVersion stable,
+            RegistryController.RemoteVersion canary
+    ) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.mfe.registry.web;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class RouteTable {
+
+    private final String platform;
+    private final List<RouteDefinitions.Route> routes;
+    private final Map<String, Integer> indexById;
+    private final Map<String, Integer> indexByScope;
+    private final Set<String> shellPaths;
+    private final Node root = new Node();
+
+    private RouteTable(RouteDefinitions definitions) {
+        this.platform = definitions.platform();
+        this.routes = List.copyOf(definitions.routes());
+        this.indexById = new HashMap<>(routes.size() * 2);
+        this.indexByScope = new HashMap<>(routes.size() * 2);
+        this.shellPaths = new HashSet<>();
+        for (String shellPath : definitions.shellPaths() == null ? List.<String>of() : definitions.shellPaths()) {
+            shellPaths.add(normalize(shellPath));
+        }
+        for (int index = 0; index < routes.size(); index++) {
+            RouteDefinitions.Route route = routes.get(index);
+            indexById.put(route.id(), index);
+            indexByScope.put(route.remote().scope(), index);
+            insert(normalize(route.path()), index);
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>(4);
+        private int routeIndex = -1;
+    }
+
+    public static RouteTable of(RouteDefinitions definitions) {
+        validate(definitions);
+        return new RouteTable(definitions);
+    }
+
+    public String platform() {
+        return platform;
+    }
+
+    public List<RouteDefinitions.Route> routes() {
+        return routes;
+    }
+
+    public int indexOf(String routeId) {
+        Integer index = indexById.get(routeId);
+        return index == null ? -1 : index;
+    }
+
+    public int indexOfScope(String scope) {
+        Integer index = indexByScope.get(scope);
+        return index == null ? -1 : index;
+    }
+
+    // Longest route whose path is a segment-wise prefix of the given path, so "/billing/invoices/42" resolves to
+    // "/billing" but "/billingx" does not. One hash lookup per segment: O(path length) regardless of route count.
+    public int resolve(String path) {
+        Node node = root;
+        int match = -1;
+        int length = pathLength(path);
+        int start = 0;
+        while (start < length) {
+            int end = path.indexOf('/', start);
+            if (end < 0 || end > length) {
+                end = length;
+            }
+            if (end > start) {
+                node = node.children.get(path.substring(start, end));
+                if (node == null) {
+                    break;
+                }
+                if (node.routeIndex >= 0) {
+                    match = node.routeIndex;
+                }
+            }
+            start = end + 1;
+        }
+        return match;
+    }
+
+    // Paths the shell renders client-side: its own pages plus anything under a registered route.
+    public boolean isSpaPath(String path) {
+        return shellPaths.contains(normalize(path)) || resolve(path) >= 0;
+    }
+
+    private void insert(String path, int routeIndex) {
+        Node node = root;
+        for (String segment : path.substring(1).split("/")) {
+            node = node.children.computeIfAbsent(segment, key -> new Node());
+        }
+        node.routeIndex = routeIndex;
+    }
+
+    private static int pathLength(String path) {
+        int length = path.length();
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            length = query;
+        }
+        int fragment = path.indexOf('#');
+        if (fragment >= 0 && fragment < length) {
+            length = fragment;
+        }
+        return length;
+    }
+
+    private static String normalize(String path) {
+        String trimmed = path.substring(0, pathLength(path));
+        while (trimmed.length() > 1 && trimmed.endsWith("/")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
+
+    private static boolean isServerPath(String path) {
+        for (String reserved : List.of("/api", "/actuator", "/assets", "/remotes")) {
+            if (path.equals(reserved) || path.startsWith(reserved + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void validate(RouteDefinitions definitions) {
+        if (definitions == null || definitions.platform() == null || definitions.routes() == null) {
+            throw new IllegalArgumentException("Route definitions need a platform and a routes list");
+        }
+        Set<String> ids = new HashSet<>();
+        Set<String> paths = new HashSet<>();
+        for (RouteDefinitions.Route route : definitions.routes()) {
+            if (route.id() == null || route.id().isBlank()) {
+                throw new IllegalArgumentException("Every route needs an id");
+            }
+            if (!ids.add(route.id())) {
+                throw new IllegalArgumentException("Duplicate route id " + route.id());
+            }
+            if (route.path() == null || !route.path().startsWith("/") || normalize(route.path()).equals("/")) {
+                throw new IllegalArgumentException("Route " + route.id() + " needs a path below /");
+            }
+            if (isServerPath(route.path()) || route.path().contains("//") || route.path().contains("?")) {
+                throw new IllegalArgumentException("Route " + route.id() + " has an unsupported path " + route.path());
+            }
+            if (!paths.add(normalize(route.path()))) {
+                throw new IllegalArgumentException("Duplicate route path " + route.path());
+            }
+            RouteDefinitions.Remote remote = route.remote();
+            if (remote == null || remote.scope() == null || remote.module() == null
+                    || remote.stable() == null || remote.stable().url() == null
+                    || remote.canary() == null || remote.canary().url() == null) {
+                throw new IllegalArgumentException("Route " + route.id() + " needs remote scope, module, stable and canary urls");
+            }
+            if (route.requiredRoles() == null) {
+                throw new IllegalArgumentException("Route " + route.id() + " needs requiredRoles");
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.mfe.registry.web;
+
+import java.util.Arrays;
+
+final class SequencePostingList {
+
+    private long[] sequences = new long[4];
+    private int head;
+    private int size;
+
+    void add(long sequence) {
+        if (head + size == sequences.length) {
+            grow();
+        }
+
+        sequences[head + size] = sequence;
+        size++;
+    }
+
+    void removeBefore(long sequence) {
+        while (size > 0 && sequences[head] < sequence) {
+            head++;
+            size--;
+        }
+        if (size == 0) {
+            head = 0;
+        }
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int collectBefore(long before, long[] target) {
+        int end = Arrays.binarySearch(sequences, head, head + size, before);
+        if (end < 0) {
+            end = -end - 1;
+        }
+
+        int collected = 0;
+        for (int position = end - 1; position >= head && collected < target.length; position--) {
+            target[collected++] = sequences[position];
+        }
+        return collected;
+    }
+
+    private void grow() {
+        if (head > sequences.length / 2) {
+            System.arraycopy(sequences, head, sequences, 0, size);
+            head = 0;
+            return;
+        }
+        sequences = Arrays.copyOf(sequences, sequences.length * 2);
+    }
+}
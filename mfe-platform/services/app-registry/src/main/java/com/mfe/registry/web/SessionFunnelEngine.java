@@ -0,0 +1,381 @@
+package com.mfe.registry.web;
+
+import com.mfe.registry.BackgroundThreads;
+import com.mfe.registry.logging.StructuredEventLogger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "app.telemetry.funnels", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SessionFunnelEngine implements TelemetryIngestListener {
+
+    private static final String UNKNOWN_SESSION = "session-unknown";
+    private static final int INITIAL_REMOTES = 4;
+
+    // Per-remote funnel stages.
+    private static final byte REQUESTED = 1;
+    private static final byte CANARY_FAILED = 2;
+    private static final byte CLOSED = 3;
+
+    private final RegistrySnapshotStore registrySnapshotStore;
+    private final StructuredEventLogger eventLogger;
+    private final long idleTimeoutMillis;
+    private final int maxSessions;
+    private final int maxRemotesPerSession;
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Map<FunnelKey, FunnelCounters> funnels = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private final AtomicLong expiredSessions = new AtomicLong();
+    private final AtomicLong rejectedSessions = new AtomicLong();
+    private final AtomicLong unmatchedEvents = new AtomicLong();
+    private final TimerWheel<Session> wheel;
+    private final ScheduledExecutorService expirer;
+
+    public SessionFunnelEngine(
+            SessionFunnelProperties properties,
+            RegistrySnapshotStore registrySnapshotStore,
+            StructuredEventLogger eventLogger,
+            BackgroundThreads backgroundThreads
+    ) {
+        this.registrySnapshotStore = registrySnapshotStore;
+        this.eventLogger = eventLogger;
+        this.idleTimeoutMillis = properties.idleTimeout().toMillis();
+        this.maxSessions = properties.maxSessions();
+        this.maxRemotesPerSession = properties.maxRemotesPerSession();
+        long tickMillis = properties.tick().toMillis();
+        this.wheel = new TimerWheel<>(tickMillis, idleTimeoutMillis, System.currentTimeMillis());
+        this.expirer = backgroundThreads.scheduler("session-funnel-expirer");
+        expirer.scheduleWithFixedDelay(this::expireIdle, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public record FunnelKey(String remoteId, String variant) {
+    }
+
+    public record FunnelSummary(
+            String remoteId,
+            String variant,
+            long requested,
+            long loaded,
+            long fallback,
+            long errors,
+            long abandoned,
+            long inProgress,
+            double renderRate,
+            long timeToRenderP50Ms,
+            long timeToRenderP95Ms,
+            long timeToRenderP99Ms,
+            long fallbackTimeToRenderP50Ms,
+            long fallbackTimeToRenderP95Ms
+    ) {
+    }
+
+    public record SessionFunnelStats(int activeSessions, long expiredSessions, long rejectedSessions, long unmatchedEvents) {
+    }
+
+    public record SessionFunnelReport(
+            int activeSessions,
+            long expiredSessions,
+            long rejectedSessions,
+            long unmatchedEvents,
+            List<FunnelSummary> funnels
+    ) {
+    }
+
+    private static final class FunnelCounters {
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicLong loaded = new AtomicLong();
+        private final AtomicLong fallback = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong abandoned = new AtomicLong();
+        private final AtomicIntegerArray renderBuckets = new AtomicIntegerArray(LatencyHistogram.BUCKET_COUNT);
+        private final AtomicIntegerArray fallbackBuckets = new AtomicIntegerArray(LatencyHistogram.BUCKET_COUNT);
+    }
+
+    // Guarded by its own monitor. Remotes are parallel arrays, grown in place up to max-remotes-per-session.
+    private static final class Session {
+
+        private final String id;
+        private long lastSeen;
+        private boolean expired;
+        private int remoteCount;
+        private String[] remoteIds = new String[INITIAL_REMOTES];
+        private byte[] stages = new byte[INITIAL_REMOTES];
+        private String[] variants = new String[INITIAL_REMOTES];
+        private long[] requestedAt = new long[INITIAL_REMOTES];
+
+        Session(String id, long now) {
+            this.id = id;
+            this.lastSeen = now;
+        }
+    }
+
+    @Override
+    public void onRecord(TelemetryController.TelemetryRecord record) {
+        String eventType = record.eventType();
+        boolean attempt = TelemetryClassifier.LOAD_ATTEMPT.equals(eventType);
+        if (!attempt && !isOutcome(eventType)) {
+            return;
+        }
+        String sessionId = record.sessionId();
+        String remoteId = registrySnapshotStore.routeIdOf(record);
+        if (sessionId == null || UNKNOWN_SESSION.equals(sessionId) || remoteId == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        while (true) {
+            Session session = sessions.get(sessionId);
+            if (session == null) {
+                if (!attempt) {
+                    // The attempt went unseen (older client, restart, rejected session); there is no funnel to close.
+                    unmatchedEvents.incrementAndGet();
+                    return;
+                }
+                session = open(sessionId, now);
+                if (session == null) {
+                    return;
+                }
+            }
+            synchronized (session) {
+                if (session.expired) {
+                    // Expired between lookup and lock; start over with a fresh session.
+                    continue;
+                }
+                session.lastSeen = now;
+                if (attempt) {
+                    request(session, remoteId, TelemetryClassifier.variantOf(record), now);
+                } else {
+                    advance(session, remoteId, eventType, record.durationMs(), now);
+                }
+                return;
+            }
+        }
+    }
+
+    public SessionFunnelReport report(String remoteId) {
+        List<FunnelSummary> summaries = new ArrayList<>();
+        funnels.forEach((key, counters) -> {
+            if (remoteId != null && !remoteId.equals(key.remoteId())) {
+                return;
+            }
+            summaries.add(summarize(key, counters));
+        });
+        summaries.sort(Comparator.comparing(FunnelSummary::remoteId).thenComparing(FunnelSummary::variant));
+        return new SessionFunnelReport(
+                sessionCount.get(),
+                expiredSessions.get(),
+                rejectedSessions.get(),
+                unmatchedEvents.get(),
+                summaries
+        );
+    }
+
+    public SessionFunnelStats stats() {
+        return new SessionFunnelStats(
+                sessionCount.get(),
+                expiredSessions.get(),
+                rejectedSessions.get(),
+                unmatchedEvents.get()
+        );
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void close() {
+        expirer.shutdownNow();
+    }
+
+    private Session open(String sessionId, long now) {
+        if (sessionCount.incrementAndGet() > maxSessions) {
+            sessionCount.decrementAndGet();
+            rejectedSessions.incrementAndGet();
+            return null;
+        }
+        Session created = new Session(sessionId, now);
+        Session raced = sessions.putIfAbsent(sessionId, created);
+        if (raced != null) {
+            sessionCount.decrementAndGet();
+            return raced;
+        }
+        wheel.schedule(created, now + idleTimeoutMillis);
+        return created;
+    }
+
+    private void request(Session session, String remoteId, String variant, long now) {
+        int index = indexOf(session, remoteId);
+        if (index < 0) {
+            if (session.remoteCount == maxRemotesPerSession) {
+                unmatchedEvents.incrementAndGet();
+                return;
+            }
+            index = add(session, remoteId);
+        } else if (session.stages[index] != CLOSED) {
+            // A retry or remount superseded a load that never reported an outcome.
+            counters(remoteId, session.variants[index]).abandoned.incrementAndGet();
+        }
+        session.stages[index] = REQUESTED;
+        session.variants[index] = variant;
+        session.requestedAt[index] = now;
+        counters(remoteId, variant).requested.incrementAndGet();
+    }
+
+    private void advance(Session session, String remoteId, String eventType, Long durationMs, long now) {
+        int index = indexOf(session, remoteId);
+        byte stage = index < 0 ? CLOSED : session.stages[index];
+        FunnelCounters counters = index < 0 ? null : counters(remoteId, session.variants[index]);
+        // shell-host times each outcome from the start of the load; the server-side gap stands in for old clients.
+        long elapsed = durationMs != null ? durationMs : index < 0 ? 0 : now - session.requestedAt[index];
+
+        switch (eventType) {
+            case TelemetryClassifier.LOAD_SUCCESS -> {
+                if (stage != REQUESTED) {
+                    break;
+                }
+                counters.loaded.incrementAndGet();
+                counters.renderBuckets.incrementAndGet(LatencyHistogram.bucketOf(elapsed));
+                session.stages[index] = CLOSED;
+                return;
+            }
+            case TelemetryClassifier.LOAD_CANARY_FAILED -> {
+                if (stage != REQUESTED) {
+                    break;
+                }
+                session.stages[index] = CANARY_FAILED;
+                return;
+            }
+            case TelemetryClassifier.LOAD_FALLBACK_SUCCESS -> {
+                if (stage != CANARY_FAILED) {
+                    break;
+                }
+                counters.fallback.incrementAndGet();
+                counters.fallbackBuckets.incrementAndGet(LatencyHistogram.bucketOf(elapsed));
+                session.stages[index] = CLOSED;
+                return;
+            }
+            default -> {
+                if (stage != REQUESTED && stage != CANARY_FAILED) {
+                    break;
+                }
+                counters.errors.incrementAndGet();
+                session.stages[index] = CLOSED;
+                return;
+            }
+        }
+        unmatchedEvents.incrementAndGet();
+    }
+
+    private void expireIdle() {
+        try {
+            long now = System.currentTimeMillis();
+            int expired = wheel.advance(now, session -> expireIfIdle(session, now));
+            if (expired > 0) {
+                expiredSessions.addAndGet(expired);
+            }
+        } catch (RuntimeException ex) {
+            // A failure here must not cancel the schedule.
+            eventLogger.error("session_funnel_expiry_failed")
+                    .field("error", ex.getMessage())
+                    .emit();
+        }
+    }
+
+    private long expireIfIdle(Session session, long now) {
+        synchronized (session) {
+            long deadline = session.lastSeen + idleTimeoutMillis;
+            if (deadline > now) {
+                return deadline;
+            }
+            session.expired = true;
+            for (int index = 0; index < session.remoteCount; index++) {
+                if (session.stages[index] != CLOSED) {
+                    counters(session.remoteIds[index], session.variants[index]).abandoned.incrementAndGet();
+                }
+            }
+        }
+        sessions.remove(session.id, session);
+        sessionCount.decrementAndGet();
+        return -1;
+    }
+
+    private FunnelCounters counters(String remoteId, String variant) {
+        // Keys are bounded by the route table times the three variants.
+        return funnels.computeIfAbsent(new FunnelKey(remoteId, variant), ignored -> new FunnelCounters());
+    }
+
+    private static FunnelSummary summarize(FunnelKey key, FunnelCounters counters) {
+        long requested = counters.requested.get();
+        long loaded = counters.loaded.get();
+        long fallback = counters.fallback.get();
+        long errors = counters.errors.get();
+        long abandoned = counters.abandoned.get();
+        int[] render = snapshot(counters.renderBuckets);
+        int[] fallbackRender = snapshot(counters.fallbackBuckets);
+        return new FunnelSummary(
+                key.remoteId(),
+                key.variant(),
+                requested,
+                loaded,
+                fallback,
+                errors,
+                abandoned,
+                Math.max(0, requested - loaded - fallback - errors - abandoned),
+                requested == 0 ? 0 : (double) (loaded + fallback) / requested,
+                LatencyHistogram.percentile(render, loaded, 0.50),
+                LatencyHistogram.percentile(render, loaded, 0.95),
+                LatencyHistogram.percentile(render, loaded, 0.99),
+                LatencyHistogram.percentile(fallbackRender, fallback, 0.50),
+                LatencyHistogram.percentile(fallbackRender, fallback, 0.95)
+        );
+    }
+
+    private static int[] snapshot(AtomicIntegerArray buckets) {
+        int[] counts = new int[buckets.length()];
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            counts[bucket] = buckets.get(bucket);
+        }
+        return counts;
+    }
+
+    private static boolean isOutcome(String eventType) {
+        return TelemetryClassifier.LOAD_SUCCESS.equals(eventType)
+                || TelemetryClassifier.LOAD_CANARY_FAILED.equals(eventType)
+                || TelemetryClassifier.LOAD_FALLBACK_SUCCESS.equals(eventType)
+                || TelemetryClassifier.LOAD_FAILURE.equals(eventType);
+    }
+
+    private static int indexOf(Session session, String remoteId) {
+        for (int index = 0; index < session.remoteCount; index++) {
+            if (session.remoteIds[index].equals(remoteId)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static int add(Session session, String remoteId) {
+        int index = session.remoteCount;
+        if (index == session.remoteIds.length) {
+            int capacity = index * 2;
+            session.remoteIds = Arrays.copyOf(session.remoteIds, capacity);
+            session.stages = Arrays.copyOf(session.stages, capacity);
+            session.variants = Arrays.copyOf(session.variants, capacity);
+            session.requestedAt = Arrays.copyOf(session.requestedAt, capacity);
+        }
+        session.remoteIds[index] = remoteId;
+        session.remoteCount++;
+        return index;
+    }
+}
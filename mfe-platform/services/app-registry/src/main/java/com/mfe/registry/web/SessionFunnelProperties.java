@@ -0,0 +1,14 @@
+package com.mfe.registry.web;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.telemetry.funnels")
+public record SessionFunnelProperties(
+        boolean enabled,
+        Duration idleTimeout,
+        Duration tick,
+        int maxSessions,
+        int maxRemotesPerSession
+) {
+}
@@ -0,0 +1,30 @@
+package com.mfe.registry.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.handler.AbstractHandlerMapping;
+import org.springframework.web.servlet.mvc.ParameterizableViewController;
+
+@Component
+public class SpaForwardHandlerMapping extends AbstractHandlerMapping {
+
+    private final RouteCatalog routeCatalog;
+    private final ParameterizableViewController forwardToIndex = new ParameterizableViewController();
+
+    public SpaForwardHandlerMapping(RouteCatalog routeCatalog) {
+        this.routeCatalog = routeCatalog;
+        this.forwardToIndex.setViewName("forward:/index.html");
+        setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+    }
+
+    @Override
+    protected Object getHandlerInternal(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return null;
+        }
+        return routeCatalog.current().isSpaPath(initLookupPath(request)) ? forwardToIndex : null;
+    }
+}
@@ -0,0 +1,234 @@
+package com.mfe.registry.web;
+
+import com.mfe.registry.logging.StructuredEventLogger;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+@Component
+public class StaticAssetCatalog {
+
+    // Vite writes <name>-<8 char base64url hash>.<ext> under assets/. A hash without any upper case letter or
+    // digit is rare enough that treating one as an ordinary name (e.g. my-features.js) only costs a revalidation.
+    private static final Pattern HASHED_NAME = Pattern.compile(".+-(?=[A-Za-z0-9_-]*[A-Z0-9])[A-Za-z0-9_-]{8}\\.[a-z0-9]+");
+    private static final String ASSETS_DIRECTORY = "/assets/";
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final String BROTLI_SUFFIX = ".br";
+
+    private final Map<String, StaticAsset> assets = new HashMap<>();
+    private final StaticAssetProperties properties;
+    private final StructuredEventLogger eventLogger;
+    private final String immutableCacheControl = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+    private final String shortLivedCacheControl;
+
+    private Path spoolDirectory;
+
+    public StaticAssetCatalog(
+            StaticAssetProperties properties,
+            ResourceLoader resourceLoader,
+            StructuredEventLogger eventLogger
+    ) throws IOException {
+        this.properties = properties;
+        this.eventLogger = eventLogger;
+        this.shortLivedCacheControl = CacheControl.maxAge(properties.remoteEntryMaxAge().toSeconds(), TimeUnit.SECONDS)
+                .cachePublic()
+                .mustRevalidate()
+                .getHeaderValue();
+        if (properties.cacheDirectory() != null && !properties.cacheDirectory().isBlank()) {
+            this.spoolDirectory = Path.of(properties.cacheDirectory()).toAbsolutePath();
+        }
+        load(ResourcePatternUtils.getResourcePatternResolver(resourceLoader));
+    }
+
+    // Small variants stay on the heap; large ones live in the spool directory so Tomcat can sendfile them.
+    // Each encoding is a different representation, so each carries its own strong ETag.
+    public record Variant(String etag, long length, byte[] bytes, Path file) {
+    }
+
+    public record StaticAsset(
+            String contentType,
+            String cacheControl,
+            Variant identity,
+            Variant gzip,
+            Variant brotli
+    ) {
+    }
+
+    private record Encoded(byte[] identity, Variant identityVariant, Variant gzip, Variant brotli) {
+    }
+
+    public StaticAsset find(String path) {
+        return assets.get(path);
+    }
+
+    private void load(ResourcePatternResolver resolver) throws IOException {
+        String location = properties.location().endsWith("/") ? properties.location() : properties.location() + "/";
+        Resource root = resolver.getResource(location);
+        if (!root.exists()) {
+            return;
+        }
+        String rootUrl = root.getURL().toString();
+
+        Map<String, Resource> files = new HashMap<>();
+        for (Resource resource : resolver.getResources(location + "**")) {
+            String url = resource.getURL().toString();
+            if (url.startsWith(rootUrl) && !url.endsWith("/") && resource.isReadable()) {
+                files.put("/" + UriUtils.decode(url.substring(rootUrl.length()), StandardCharsets.UTF_8), resource);
+            }
+        }
+
+        // Identical files are bundled once per remote; they share one ETag and one set of encoded variants.
+        Map<String, Encoded> byEtag = new HashMap<>();
+        long identityBytes = 0;
+        long encodedBytes = 0;
+        for (Map.Entry<String, Resource> entry : files.entrySet()) {
+            String path = entry.getKey();
+            if (path.endsWith(GZIP_SUFFIX) || path.endsWith(BROTLI_SUFFIX)) {
+                continue;
+            }
+            byte[] content = read(entry.getValue());
+            String etag = etag(content);
+            Encoded encoded = byEtag.get(etag);
+            if (encoded == null || !Arrays.equals(encoded.identity(), content)) {
+                encoded = encode(path, content, etag, files);
+                byEtag.putIfAbsent(etag, encoded);
+                identityBytes += content.length;
+                encodedBytes += Math.min(
+                        encoded.brotli() != null ? encoded.brotli().length() : content.length,
+                        encoded.gzip() != null ? encoded.gzip().length() : content.length
+                );
+            }
+            assets.put(path, new StaticAsset(
+                    contentType(path),
+                    cacheControl(path),
+                    encoded.identityVariant(),
+                    encoded.gzip(),
+                    encoded.brotli()
+            ));
+        }
+
+        eventLogger.info("static_assets_indexed")
+                .field("assets", assets.size())
+                .field("distinct", byEtag.size())
+                .field("identityBytes", identityBytes)
+                .field("smallestEncodedBytes", encodedBytes)
+                .emit();
+    }
+
+    private Encoded encode(String path, byte[] content, String etag, Map<String, Resource> files) throws IOException {
+        String key = etag.substring(1, etag.length() - 1);
+        byte[] gzip = files.containsKey(path + GZIP_SUFFIX) ? read(files.get(path + GZIP_SUFFIX)) : null;
+        if (gzip == null && isCompressible(path) && content.length >= properties.minCompressBytes()) {
+            gzip = gzip(content);
+        }
+        byte[] brotli = files.containsKey(path + BROTLI_SUFFIX) ? read(files.get(path + BROTLI_SUFFIX)) : null;
+
+        return new Encoded(
+                content,
+                variant(etag, key, "", content),
+                worthSending(gzip, content) ? variant(etag, key, GZIP_SUFFIX, gzip) : null,
+                worthSending(brotli, content) ? variant(etag, key, BROTLI_SUFFIX, brotli) : null
+        );
+    }
+
+    private Variant variant(String identityEtag, String key, String suffix, byte[] bytes) {
+        // "<crc>-<len>" for identity, "<crc>-<len>-gz" and "<crc>-<len>-br" for the encodings.
+        String etag = suffix.isEmpty() ? identityEtag : "\"" + key + "-" + suffix.substring(1) + "\"";
+        if (spoolDirectory == null || bytes.length < properties.sendfileThresholdBytes()) {
+            return new Variant(etag, bytes.length, bytes, null);
+        }
+        try {
+            // Named by content hash, so concurrent instances sharing the directory write identical files.
+            Path file = spoolDirectory.resolve(key + suffix);
+            if (!Files.exists(file) || Files.size(file) != bytes.length) {
+                Files.createDirectories(spoolDirectory);
+                Path temporary = Files.createTempFile(spoolDirectory, key, ".tmp");
+                Files.write(temporary, bytes);
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            // Tomcat only accepts canonical paths for sendfile.
+            return new Variant(etag, bytes.length, null, file.toRealPath());
+        } catch (IOException ex) {
+            eventLogger.warn("static_asset_spool_failed")
+                    .field("directory", spoolDirectory.toString())
+                    .field("error", ex.getMessage())
+                    .emit();
+            spoolDirectory = null;
+            return new Variant(etag, bytes.length, bytes, null);
+        }
+    }
+
+    private String cacheControl(String path) {
+        // Anything else (remoteEntry.js, index.html) keeps its URL across deploys: short TTL, then a cheap 304.
+        return isHashed(path) ? immutableCacheControl : shortLivedCacheControl;
+    }
+
+    private static boolean isHashed(String path) {
+        return path.contains(ASSETS_DIRECTORY)
+                && HASHED_NAME.matcher(path.substring(path.lastIndexOf('/') + 1)).matches();
+    }
+
+    private static String contentType(String path) {
+        return MediaTypeFactory.getMediaType(path).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+    }
+
+    private static boolean isCompressible(String path) {
+        MediaType type = MediaTypeFactory.getMediaType(path).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        return type.getType().equals("text")
+                || type.getSubtype().equals("javascript")
+                || type.getSubtype().endsWith("json")
+                || type.getSubtype().endsWith("xml")
+                || type.getSubtype().equals("wasm");
+    }
+
+    // An encoding that saves less than an eighth is not worth the client's decode.
+    private static boolean worthSending(byte[] encoded, byte[] content) {
+        return encoded != null && encoded.length < content.length - content.length / 8;
+    }
+
+    private static String etag(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(content.length) + "\"";
+    }
+
+    private static byte[] read(Resource resource) throws IOException {
+        try (InputStream input = resource.getInputStream()) {
+            return input.readAllBytes();
+        }
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(content.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return buffer.toByteArray();
+    }
+}
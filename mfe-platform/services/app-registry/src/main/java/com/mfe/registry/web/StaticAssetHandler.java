@@ -0,0 +1,88 @@
+package com.mfe.registry.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Files;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.servlet.handler.AbstractHandlerMapping;
+
+@Component
+public class StaticAssetHandler extends AbstractHandlerMapping implements HttpRequestHandler {
+
+    private static final String ASSET_ATTRIBUTE = StaticAssetHandler.class.getName() + ".asset";
+    // Tomcat's sendfile contract: when supported, setting these hands the file region to the connector, which
+    // transfers it with FileChannel.transferTo after the servlet returns instead of copying through the heap.
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String BROTLI = "br";
+    private static final String GZIP = "gzip";
+
+    private final StaticAssetCatalog catalog;
+
+    public StaticAssetHandler(StaticAssetCatalog catalog) {
+        this.catalog = catalog;
+        setOrder(Ordered.LOWEST_PRECEDENCE - 20);
+    }
+
+    @Override
+    protected Object getHandlerInternal(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return null;
+        }
+        StaticAssetCatalog.StaticAsset asset = catalog.find(initLookupPath(request));
+        if (asset == null) {
+            return null;
+        }
+        request.setAttribute(ASSET_ATTRIBUTE, asset);
+        return this;
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        StaticAssetCatalog.StaticAsset asset = (StaticAssetCatalog.StaticAsset) request.getAttribute(ASSET_ATTRIBUTE);
+        StaticAssetCatalog.Variant variant = asset.identity();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (asset.brotli() != null && PreEncodedResponse.acceptsEncoding(acceptEncoding, BROTLI)) {
+            variant = asset.brotli();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, BROTLI);
+        } else if (asset.gzip() != null && PreEncodedResponse.acceptsEncoding(acceptEncoding, GZIP)) {
+            variant = asset.gzip();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setHeader(HttpHeaders.ETAG, variant.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, asset.cacheControl());
+        if (asset.gzip() != null || asset.brotli() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (PreEncodedResponse.etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), variant.etag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        response.setContentType(asset.contentType());
+        response.setContentLengthLong(variant.length());
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        if (variant.bytes() != null) {
+            response.getOutputStream().write(variant.bytes());
+        } else if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, variant.file().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, variant.length());
+        } else {
+            // TLS or HTTP/2 connectors cannot sendfile; stream from the spooled copy instead.
+            Files.copy(variant.file(), response.getOutputStream());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.mfe.registry.web;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.static-assets")
+public record StaticAssetProperties(
+        String location,
+        String cacheDirectory,
+        int minCompressBytes,
+        int sendfileThresholdBytes,
+        Duration remoteEntryMaxAge
+) {
+}
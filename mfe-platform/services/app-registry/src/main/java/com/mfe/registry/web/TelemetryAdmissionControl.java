@@ -0,0 +1,131 @@
+package com.mfe.registry.web;
+
+import com.mfe.registry.BackgroundThreads;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class TelemetryAdmissionControl {
+
+    static final String UNKNOWN_REMOTE = "unknown";
+
+    private final boolean enabled;
+    private final int maxConcurrent;
+    private final Semaphore concurrency;
+    private final TokenBucketLimiter sessionLimiter;
+    private final TokenBucketLimiter remoteLimiter;
+    private final RegistrySnapshotStore registrySnapshotStore;
+    private final AtomicLong admitted = new AtomicLong();
+    private final AtomicLong shedConcurrency = new AtomicLong();
+    private final AtomicLong shedSession = new AtomicLong();
+    private final AtomicLong shedRemote = new AtomicLong();
+    private final ScheduledExecutorService sweeper;
+
+    public TelemetryAdmissionControl(
+            TelemetryAdmissionProperties properties,
+            RegistrySnapshotStore registrySnapshotStore,
+            BackgroundThreads backgroundThreads
+    ) {
+        this.registrySnapshotStore = registrySnapshotStore;
+        this.enabled = properties.enabled();
+        this.maxConcurrent = properties.maxConcurrent();
+        this.concurrency = new Semaphore(maxConcurrent);
+        this.sessionLimiter = new TokenBucketLimiter(properties.sessionRatePerSecond(), properties.sessionBurst(), properties.maxKeys());
+        this.remoteLimiter = new TokenBucketLimiter(properties.remoteRatePerSecond(), properties.remoteBurst(), properties.maxKeys());
+        this.sweeper = backgroundThreads.scheduler("telemetry-admission-sweeper");
+        long sweepMillis = properties.idleSweepInterval().toMillis();
+        sweeper.scheduleWithFixedDelay(this::evictIdle, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public record TelemetryAdmissionStats(
+            long admitted,
+            long shedConcurrency,
+            long shedSession,
+            long shedRemote,
+            int inFlight,
+            int trackedSessions,
+            int trackedRemotes
+    ) {
+    }
+
+    // Takes a session token, then a concurrency permit. The caller must call exit() once it was admitted.
+    public void enter(String sessionKey, HttpServletResponse response) {
+        if (!enabled) {
+            return;
+        }
+        long waitNanos = sessionLimiter.tryAcquire(sessionKey, System.nanoTime());
+        if (waitNanos > 0) {
+            shedSession.incrementAndGet();
+            throw shed(response, waitNanos, "Telemetry rate limit exceeded for session");
+        }
+        if (!concurrency.tryAcquire()) {
+            shedConcurrency.incrementAndGet();
+            throw shed(response, TimeUnit.SECONDS.toNanos(1), "Telemetry ingest is at capacity");
+        }
+        admitted.incrementAndGet();
+    }
+
+    public void exit() {
+        if (enabled) {
+            concurrency.release();
+        }
+    }
+
+    // Per-event check keyed by the route remoteId maps to; zero when admitted, else nanoseconds until the remote
+    // has a token again. Ids outside the route table, and missing ones, share one bucket, so made-up ids can
+    // neither grow the key space nor each bring a fresh burst.
+    public long tryAcquireRemote(String remoteId) {
+        if (!enabled) {
+            return 0;
+        }
+        String routeId = registrySnapshotStore.routeIdOf(remoteId);
+        long waitNanos = remoteLimiter.tryAcquire(routeId != null ? routeId : UNKNOWN_REMOTE, System.nanoTime());
+        if (waitNanos > 0) {
+            shedRemote.incrementAndGet();
+        }
+        return waitNanos;
+    }
+
+    public ResponseStatusException shed(HttpServletResponse response, long waitNanos, String reason) {
+        // Set before the exception is resolved: sendError keeps headers, so the 429 carries Retry-After.
+        setRetryAfter(response, waitNanos);
+        return new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, reason);
+    }
+
+    public void setRetryAfter(HttpServletResponse response, long waitNanos) {
+        long seconds = TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, seconds)));
+    }
+
+    public TelemetryAdmissionStats stats() {
+        return new TelemetryAdmissionStats(
+                admitted.get(),
+                shedConcurrency.get(),
+                shedSession.get(),
+                shedRemote.get(),
+                enabled ? maxConcurrent - concurrency.availablePermits() : 0,
+                sessionLimiter.size(),
+                remoteLimiter.size()
+        );
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void close() {
+        sweeper.shutdownNow();
+    }
+
+    private void evictIdle() {
+        long now = System.nanoTime();
+        sessionLimiter.evictIdle(now);
+        remoteLimiter.evictIdle(now);
+    }
+}
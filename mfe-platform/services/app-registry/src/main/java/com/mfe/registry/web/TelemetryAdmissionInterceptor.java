@@ -0,0 +1,49 @@
+package com.mfe.registry.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Component
+public class TelemetryAdmissionInterceptor implements HandlerInterceptor, WebMvcConfigurer {
+
+    private static final String ADMITTED_ATTRIBUTE = TelemetryAdmissionInterceptor.class.getName() + ".admitted";
+
+    private final TelemetryAdmissionControl admissionControl;
+
+    public TelemetryAdmissionInterceptor(TelemetryAdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this).addPathPatterns("/api/telemetry", "/api/telemetry/batch");
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"POST".equals(request.getMethod())) {
+            return true;
+        }
+        admissionControl.enter(sessionKey(request), response);
+        request.setAttribute(ADMITTED_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ADMITTED_ATTRIBUTE) != null) {
+            request.removeAttribute(ADMITTED_ATTRIBUTE);
+            admissionControl.exit();
+        }
+    }
+
+    private static String sessionKey(HttpServletRequest request) {
+        String sessionId = request.getHeader("X-Session-Id");
+        // Clients without a session id are limited per address instead of sharing one bucket.
+        return sessionId == null || sessionId.isBlank() ? "ip:" + request.getRemoteAddr() : sessionId;
+    }
+}
@@ -0,0 +1,17 @@
+package com.mfe.registry.web;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.telemetry.admission")
+public record TelemetryAdmissionProperties(
+        boolean enabled,
+        int maxConcurrent,
+        double sessionRatePerSecond,
+        int sessionBurst,
+        double remoteRatePerSecond,
+        int remoteBurst,
+        int maxKeys,
+        Duration idleSweepInterval
+) {
+}
@@ -0,0 +1,150 @@
+package com.mfe.registry.web;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TelemetryAggregator implements TelemetryIngestListener {
+
+    private final RegistrySnapshotStore registrySnapshotStore;
+    private final int maxKeys;
+    private final Map<AggregateKey, KeyWindows> aggregates = new ConcurrentHashMap<>();
+    private final AtomicLong droppedKeys = new AtomicLong();
+
+    public TelemetryAggregator(
+            RegistrySnapshotStore registrySnapshotStore,
+            @Value("${app.telemetry.aggregation.max-keys:256}") int maxKeys
+    ) {
+        this.registrySnapshotStore = registrySnapshotStore;
+        this.maxKeys = maxKeys;
+    }
+
+    public enum Window {
+        ONE_MINUTE("1m", Duration.ofMinutes(1), 12),
+        FIVE_MINUTES("5m", Duration.ofMinutes(5), 10),
+        ONE_HOUR("1h", Duration.ofHours(1), 12);
+
+        private final String label;
+        private final Duration length;
+        private final int slices;
+
+        Window(String label, Duration length, int slices) {
+            this.label = label;
+            this.length = length;
+            this.slices = slices;
+        }
+
+        public String label() {
+            return label;
+        }
+
+        public static Window fromLabel(String label) {
+            for (Window window : values()) {
+                if (window.label.equals(label.toLowerCase(Locale.ROOT))) {
+                    return window;
+                }
+            }
+            return null;
+        }
+    }
+
+    public record AggregateKey(String remoteId, String eventType, String variant) {
+    }
+
+    public record LatencySummary(
+            String remoteId,
+            String eventType,
+            String variant,
+            String window,
+            long count,
+            long errorCount,
+            double errorRate,
+            long timedCount,
+            long p50Ms,
+            long p95Ms,
+            long p99Ms
+    ) {
+    }
+
+    private static final class KeyWindows {
+
+        private final RollingLatencyWindow[] windows = new RollingLatencyWindow[Window.values().length];
+
+        KeyWindows() {
+            for (Window window : Window.values()) {
+                windows[window.ordinal()] = new RollingLatencyWindow(window.length.toMillis(), window.slices);
+            }
+        }
+    }
+
+    @Override
+    public void onRecord(TelemetryController.TelemetryRecord record) {
+        // Keys come from client input; only registered remotes and known event types get their own histograms.
+        String routeId = registrySnapshotStore.routeIdOf(record);
+        AggregateKey key = new AggregateKey(
+                routeId == null ? TelemetryClassifier.OTHER : routeId,
+                TelemetryClassifier.eventTypeOf(record),
+                TelemetryClassifier.variantOf(record)
+        );
+
+        KeyWindows keyWindows = aggregates.get(key);
+        if (keyWindows == null) {
+            if (aggregates.size() >= maxKeys) {
+                droppedKeys.incrementAndGet();
+                return;
+            }
+            keyWindows = aggregates.computeIfAbsent(key, ignored -> new KeyWindows());
+        }
+
+        long now = System.currentTimeMillis();
+        boolean failure = TelemetryClassifier.isFailure(record);
+        for (RollingLatencyWindow window : keyWindows.windows) {
+            window.record(now, record.durationMs(), failure);
+        }
+    }
+
+    public List<LatencySummary> summaries(Window window, String remoteId) {
+        String routeId = remoteId == null ? null : registrySnapshotStore.routeIdOf(remoteId);
+        String filter = routeId == null ? remoteId : routeId;
+        long now = System.currentTimeMillis();
+        List<LatencySummary> summaries = new ArrayList<>();
+        aggregates.forEach((key, keyWindows) -> {
+            if (filter != null && !filter.equals(key.remoteId())) {
+                return;
+            }
+            RollingLatencyWindow.Summary summary = keyWindows.windows[window.ordinal()].summarize(now);
+            if (summary.count() == 0) {
+                return;
+            }
+            summaries.add(new LatencySummary(
+                    key.remoteId(),
+                    key.eventType(),
+                    key.variant(),
+                    window.label(),
+                    summary.count(),
+                    summary.failures(),
+                    (double) summary.failures() / summary.count(),
+                    summary.timed(),
+                    summary.p50(),
+                    summary.p95(),
+                    summary.p99()
+            ));
+        });
+        summaries.sort(Comparator.comparing(LatencySummary::remoteId)
+                .thenComparing(LatencySummary::eventType)
+                .thenComparing(LatencySummary::variant));
+        return summaries;
+    }
+
+    public long droppedKeys() {
+        return droppedKeys.get();
+    }
+}
@@ -0,0 +1,69 @@
+package com.mfe.registry.web;
+
+import java.util.Map;
+
+public final class TelemetryClassifier {
+
+    public static final String CANARY = "canary";
+    public static final String STABLE = "stable";
+    public static final String UNKNOWN = "unknown";
+    public static final String OTHER = "OTHER";
+
+    // Event types shell-host reports for each remote load, in funnel order.
+    public static final String LOAD_ATTEMPT = "REMOTE_LOAD_ATTEMPT";
+    public static final String LOAD_SUCCESS = "REMOTE_LOAD_SUCCESS";
+    public static final String LOAD_CANARY_FAILED = "REMOTE_LOAD_CANARY_FAILED";
+    public static final String LOAD_FALLBACK_SUCCESS = "REMOTE_LOAD_FALLBACK_SUCCESS";
+    public static final String LOAD_FAILURE = "REMOTE_LOAD_FAILURE";
+
+    private TelemetryClassifier() {
+    }
+
+    public static String variantOf(TelemetryController.TelemetryRecord record) {
+        Map<String, Object> metadata = record.metadata();
+        if (metadata != null) {
+            String variant = normalizeVariant(metadata.get("variant"));
+            if (variant == null) {
+                variant = normalizeVariant(metadata.get("attemptedVariant"));
+            }
+            if (variant != null) {
+                return variant;
+            }
+        }
+        if (LOAD_CANARY_FAILED.equals(record.eventType())) {
+            return CANARY;
+        }
+        return UNKNOWN;
+    }
+
+    public static String eventTypeOf(TelemetryController.TelemetryRecord record) {
+        String eventType = record.eventType();
+        return switch (eventType == null ? "" : eventType) {
+            case LOAD_ATTEMPT, LOAD_SUCCESS, LOAD_CANARY_FAILED, LOAD_FALLBACK_SUCCESS, LOAD_FAILURE -> eventType;
+            default -> OTHER;
+        };
+    }
+
+    public static boolean isFailure(TelemetryController.TelemetryRecord record) {
+        return "ERROR".equalsIgnoreCase(record.level())
+                || (record.eventType() != null && record.eventType().contains("FAIL"));
+    }
+
+    // Attempts carry no outcome and a fallback success times the canary failure too; neither is a load sample.
+    public static boolean isFunnelOnly(TelemetryController.TelemetryRecord record) {
+        return LOAD_ATTEMPT.equals(record.eventType()) || LOAD_FALLBACK_SUCCESS.equals(record.eventType());
+    }
+
+    private static String normalizeVariant(Object value) {
+        if (!(value instanceof String text)) {
+            return null;
+        }
+        if (text.startsWith(CANARY)) {
+            return CANARY;
+        }
+        if (text.startsWith(STABLE)) {
+            return STABLE;
+        }
+        return null;
+    }
+}
@@ -1,35 +1,85 @@
 package com.mfe.registry.web;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.mfe.registry.auth.AdminAuthorizationService;
+import com.mfe.registry.logging.StructuredEventLogger;
+import com.mfe.registry.tracing.RequestTrace;
 import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.util.zip.GZIPInputStream;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/api")
-@CrossOrigin(origins = "${app.cors.allowed-origins:http://localhost:5173}")
+@CrossOrigin(origins = "${app.cors.allowed-origins:http://localhost:5173}", exposedHeaders = HttpHeaders.RETRY_AFTER)
 public class TelemetryController {
 
-    private static final Logger logger = LoggerFactory.getLogger(TelemetryController.class);
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    private static final int MAX_BATCH_EVENTS = 1000;
+    private static final int MAX_BATCH_LINE_BYTES = 64 * 1024;
+    private static final long MAX_BATCH_BYTES = 4L * 1024 * 1024;
+    private static final int MAX_REPORTED_ERRORS = 20;
+    private static final int DEFAULT_QUERY_LIMIT = 500;
+    private static final int MAX_QUERY_LIMIT = 5000;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
     private final AdminAuthorizationService adminAuthorizationService;
     private final TelemetryStore telemetryStore;
+    private final TelemetryAggregator telemetryAggregator;
+    private final ObjectProvider<TelemetryLog> telemetryLog;
+    private final ObjectProvider<TelemetryExporter> telemetryExporter;
+    private final ObjectProvider<SessionFunnelEngine> sessionFunnelEngine;
+    private final List<TelemetryIngestListener> ingestListeners;
+    private final TelemetryAdmissionControl admissionControl;
+    private final StructuredEventLogger eventLogger;
+    private final ObjectReader eventReader;
 
-    public TelemetryController(AdminAuthorizationService adminAuthorizationService, TelemetryStore telemetryStore) {
+    public TelemetryController(
+            AdminAuthorizationService adminAuthorizationService,
+            TelemetryStore telemetryStore,
+            TelemetryAggregator telemetryAggregator,
+            ObjectProvider<TelemetryLog> telemetryLog,
+            ObjectProvider<TelemetryExporter> telemetryExporter,
+            ObjectProvider<SessionFunnelEngine> sessionFunnelEngine,
+            ObjectProvider<TelemetryIngestListener> ingestListeners,
+            TelemetryAdmissionControl admissionControl,
+            StructuredEventLogger eventLogger,
+            ObjectMapper objectMapper
+    ) {
         this.adminAuthorizationService = adminAuthorizationService;
         this.telemetryStore = telemetryStore;
+        this.telemetryAggregator = telemetryAggregator;
+        this.telemetryLog = telemetryLog;
+        this.telemetryExporter = telemetryExporter;
+        this.sessionFunnelEngine = sessionFunnelEngine;
+        this.ingestListeners = ingestListeners.orderedStream().toList();
+        this.admissionControl = admissionControl;
+        this.eventLogger = eventLogger;
+        this.eventReader = objectMapper.readerFor(TelemetryEventRequest.class);
     }
 
     public record TelemetryEventRequest(
@@ -59,6 +109,41 @@ public class TelemetryController {
     ) {
     }
 
+    public record TelemetryBatchError(int line, String reason) {
+    }
+
+    public record TelemetryBatchResponse(String status, int accepted, int rejected, List<TelemetryBatchError> errors) {
+    }
+
+    public record TelemetryAggregatesResponse(String window, long droppedKeys, List<TelemetryAggregator.LatencySummary> aggregates) {
+    }
+
+    private static final class BatchTally {
+
+        private final List<TelemetryBatchError> errors = new ArrayList<>();
+        private int accepted;
+        private int rejected;
+        private long maxWaitNanos;
+
+        void reject(int line, String reason) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new TelemetryBatchError(line, reason));
+            }
+        }
+    }
+
+    // principal is the subject of a verified bearer token; userId may come from an unchecked header.
+    private record IngestContext(
+            String timestamp,
+            String correlationId,
+            String requestId,
+            String sessionId,
+            String userId,
+            String principal
+    ) {
+    }
+
     @PostMapping("/telemetry")
     public Map<String, String> collect(
             @RequestHeader(value = "X-Session-Id", required = false) String sessionId,
@@ -66,16 +151,278 @@ public class TelemetryController {
             @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
             @RequestHeader(value = "X-User-Id", required = false) String userId,
             @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorizationHeader,
-            @RequestBody TelemetryEventRequest body
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        IngestContext context = resolveContext(sessionId, requestId, correlationId, userId, authorizationHeader);
+        TelemetryRecord record = toRecord(context, readEvent(request.getInputStream()));
+
+        long waitNanos = admissionControl.tryAcquireRemote(record.remoteId());
+        if (waitNanos > 0) {
+            throw admissionControl.shed(response, waitNanos, "Telemetry rate limit exceeded for remote");
+        }
+
+        ingest(record, context.principal());
+        eventLogger.info("telemetry_received")
+                .field("eventType", record.eventType())
+                .field("remoteId", valueOrDefault(record.remoteId(), ""))
+                .field("routeId", valueOrDefault(record.routeId(), ""))
+                .field("durationMs", record.durationMs() == null ? 0 : record.durationMs())
+                .field("correlationId", record.correlationId())
+                .field("requestId", record.requestId())
+                .field("sessionId", record.sessionId())
+                .field("userId", record.userId())
+                .emit();
+
+        return Map.of("status", "accepted");
+    }
+
+    @PostMapping(value = "/telemetry/batch", consumes = {NDJSON_MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<TelemetryBatchResponse> collectBatch(
+            @RequestHeader(value = "X-Session-Id", required = false) String sessionId,
+            @RequestHeader(value = "X-Request-Id", required = false) String requestId,
+            @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
+            @RequestHeader(value = "X-User-Id", required = false) String userId,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorizationHeader,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        IngestContext context = resolveContext(sessionId, requestId, correlationId, userId, authorizationHeader);
+        BatchTally tally = new BatchTally();
+        HttpStatus status = ingestBatch(request.getInputStream(), contentEncoding, context, tally);
+
+        if (tally.maxWaitNanos > 0) {
+            // Partial acceptance still tells the client when the limited remotes can send again.
+            admissionControl.setRetryAfter(response, tally.maxWaitNanos);
+        }
+        eventLogger.info("telemetry_batch_received")
+                .field("accepted", tally.accepted)
+                .field("rejected", tally.rejected)
+                .field("status", status.value())
+                .field("correlationId", context.correlationId())
+                .field("requestId", context.requestId())
+                .field("sessionId", context.sessionId())
+                .field("userId", context.userId())
+                .emit();
+
+        return ResponseEntity.status(status).body(new TelemetryBatchResponse(
+                tally.rejected == 0 ? "accepted" : "partial",
+                tally.accepted,
+                tally.rejected,
+                tally.errors
+        ));
+    }
+
+    @GetMapping("/admin/telemetry")
+    @CrossOrigin(origins = "${app.cors.allowed-origins:http://localhost:5173}", exposedHeaders = NEXT_CURSOR_HEADER)
+    public ResponseEntity<List<TelemetryRecord>> getTelemetry(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader,
+            @RequestParam(value = "remoteId", required = false) String remoteId,
+            @RequestParam(value = "sessionId", required = false) String sessionId,
+            @RequestParam(value = "correlationId", required = false) String correlationId,
+            @RequestParam(value = "eventType", required = false) String eventType,
+            @RequestParam(value = "level", required = false) String level,
+            @RequestParam(value = "from", required = false) String from,
+            @RequestParam(value = "to", required = false) String to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "" + DEFAULT_QUERY_LIMIT) int limit
     ) {
-        String resolvedUserId = resolveUser(userId, authorizationHeader);
+        adminAuthorizationService.requireAdmin(authorizationHeader);
+
+        if (limit < 1 || limit > MAX_QUERY_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_QUERY_LIMIT);
+        }
+
+        TelemetryStore.TelemetryPage page = telemetryStore.query(new TelemetryStore.TelemetryQuery(
+                blankToNull(remoteId),
+                blankToNull(sessionId),
+                blankToNull(correlationId),
+                blankToNull(eventType),
+                blankToNull(level),
+                parseInstant("from", from),
+                parseInstant("to", to),
+                parseCursor(cursor),
+                limit
+        ));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, Long.toString(page.nextCursor()));
+        }
+        return response.body(page.records());
+    }
+
+    @GetMapping("/admin/telemetry/stats")
+    public TelemetryStore.TelemetryStoreStats getTelemetryStats(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        adminAuthorizationService.requireAdmin(authorizationHeader);
+        return telemetryStore.stats();
+    }
 
-        TelemetryRecord record = new TelemetryRecord(
+    @GetMapping("/admin/telemetry/log")
+    public TelemetryLog.TelemetryLogStats getTelemetryLogStats(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        adminAuthorizationService.requireAdmin(authorizationHeader);
+
+        TelemetryLog log = telemetryLog.getIfAvailable();
+        if (log == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Durable telemetry log is disabled");
+        }
+        return log.stats();
+    }
+
+    @GetMapping("/admin/telemetry/export")
+    public TelemetryExporter.TelemetryExportStats getTelemetryExportStats(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        adminAuthorizationService.requireAdmin(authorizationHeader);
+
+        TelemetryExporter exporter = telemetryExporter.getIfAvailable();
+        if (exporter == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Telemetry export is disabled");
+        }
+        return exporter.stats();
+    }
+
+    @GetMapping("/admin/telemetry/funnels")
+    public SessionFunnelEngine.SessionFunnelReport getTelemetryFunnels(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader,
+            @RequestParam(value = "remoteId", required = false) String remoteId
+    ) {
+        adminAuthorizationService.requireAdmin(authorizationHeader);
+
+        SessionFunnelEngine engine = sessionFunnelEngine.getIfAvailable();
+        if (engine == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Session funnels are disabled");
+        }
+        return engine.report(remoteId);
+    }
+
+    @GetMapping("/admin/telemetry/aggregates")
+    public TelemetryAggregatesResponse getTelemetryAggregates(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader,
+            @RequestParam(value = "window", defaultValue = "5m") String window,
+            @RequestParam(value = "remoteId", required = false) String remoteId
+    ) {
+        adminAuthorizationService.requireAdmin(authorizationHeader);
+
+        TelemetryAggregator.Window resolvedWindow = TelemetryAggregator.Window.fromLabel(window);
+        if (resolvedWindow == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "window must be one of 1m, 5m, 1h");
+        }
+
+        return new TelemetryAggregatesResponse(
+                resolvedWindow.label(),
+                telemetryAggregator.droppedKeys(),
+                telemetryAggregator.summaries(resolvedWindow, remoteId)
+        );
+    }
+
+    // Each line is parsed and ingested as it arrives, so a batch costs one line of buffer whatever its size. A limit
+    // or a broken stream stops the batch at that line: the lines before it stay processed and the status says why.
+    private HttpStatus ingestBatch(InputStream body, String contentEncoding, IngestContext context, BatchTally tally) {
+        boolean gzip = contentEncoding != null && contentEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        int lineNumber = 0;
+        int events = 0;
+        try (InputStream input = gzip ? new GZIPInputStream(body) : body) {
+            BoundedLineReader reader = new BoundedLineReader(input, MAX_BATCH_LINE_BYTES, MAX_BATCH_BYTES);
+            int length;
+            while ((length = reader.nextLine()) >= 0) {
+                lineNumber++;
+                if (isBlank(reader.line(), length)) {
+                    continue;
+                }
+                if (events == MAX_BATCH_EVENTS) {
+                    tally.reject(lineNumber, "batch exceeds " + MAX_BATCH_EVENTS + " events");
+                    return HttpStatus.PAYLOAD_TOO_LARGE;
+                }
+                events++;
+                ingestBatchLine(lineNumber, reader.line(), length, context, tally);
+            }
+            return HttpStatus.OK;
+        } catch (ResponseStatusException ex) {
+            tally.reject(lineNumber + 1, ex.getReason());
+            return HttpStatus.valueOf(ex.getStatusCode().value());
+        } catch (IOException ex) {
+            // Covers corrupt and truncated gzip (ZipException, EOFException) alike.
+            tally.reject(lineNumber + 1, gzip ? "invalid gzip request body" : "unreadable request body");
+            return HttpStatus.BAD_REQUEST;
+        }
+    }
+
+    private void ingestBatchLine(int lineNumber, byte[] line, int length, IngestContext context, BatchTally tally) {
+        TelemetryEventRequest event;
+        try {
+            event = eventReader.readValue(line, 0, length);
+        } catch (IOException ex) {
+            tally.reject(lineNumber, ex instanceof JsonProcessingException json
+                    ? "malformed JSON: " + json.getOriginalMessage()
+                    : "unreadable line");
+            return;
+        }
+        if (event == null) {
+            tally.reject(lineNumber, "event must be a JSON object");
+            return;
+        }
+
+        long waitNanos = admissionControl.tryAcquireRemote(event.remoteId());
+        if (waitNanos > 0) {
+            tally.maxWaitNanos = Math.max(tally.maxWaitNanos, waitNanos);
+            tally.reject(lineNumber, "rate limit exceeded for remote " + event.remoteId());
+            return;
+        }
+        ingest(toRecord(context, event), context.principal());
+        tally.accepted++;
+    }
+
+    // Held to the batch line limit, which keeps every event well inside the durable log's frame limit.
+    private TelemetryEventRequest readEvent(InputStream body) throws IOException {
+        byte[] bytes = body.readNBytes(MAX_BATCH_LINE_BYTES + 1);
+        if (bytes.length > MAX_BATCH_LINE_BYTES) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Event exceeds " + MAX_BATCH_LINE_BYTES + " bytes");
+        }
+        try {
+            TelemetryEventRequest event = eventReader.readValue(bytes);
+            if (event == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Event must be a JSON object");
+            }
+            return event;
+        } catch (JsonProcessingException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed telemetry event");
+        }
+    }
+
+    private void ingest(TelemetryRecord record, String principal) {
+        long startedAt = System.nanoTime();
+        telemetryStore.add(record);
+        RequestTrace.record(RequestTrace.TELEMETRY_STORE, startedAt);
+        for (TelemetryIngestListener listener : ingestListeners) {
+            listener.onRecord(record, principal);
+        }
+    }
+
+    private IngestContext resolveContext(
+            String sessionId,
+            String requestId,
+            String correlationId,
+            String userId,
+            String authorizationHeader
+    ) {
+        String principal = verifiedSubject(authorizationHeader);
+        return new IngestContext(
                 Instant.now().toString(),
                 valueOrDefault(correlationId, valueOrDefault(MDC.get("correlationId"), "corr-unknown")),
                 valueOrDefault(requestId, valueOrDefault(MDC.get("requestId"), "req-unknown")),
                 valueOrDefault(sessionId, valueOrDefault(MDC.get("sessionId"), "session-unknown")),
-                valueOrDefault(resolvedUserId, "anonymous"),
+                valueOrDefault(userId, valueOrDefault(principal, "anonymous")),
+                principal
+        );
+    }
+
+    private TelemetryRecord toRecord(IngestContext context, TelemetryEventRequest body) {
+        return new TelemetryRecord(
+                context.timestamp(),
+                context.correlationId(),
+                context.requestId(),
+                context.sessionId(),
+                context.userId(),
                 valueOrDefault(body.eventType(), "unknown_event"),
                 body.remoteId(),
                 body.routeId(),
@@ -84,44 +431,56 @@ public class TelemetryController {
                 body.message(),
                 body.metadata()
         );
-
-        telemetryStore.add(record);
-        logger.info("{{\"event\":\"telemetry_received\",\"eventType\":\"{}\",\"remoteId\":\"{}\",\"routeId\":\"{}\",\"durationMs\":{},\"correlationId\":\"{}\",\"requestId\":\"{}\",\"sessionId\":\"{}\",\"userId\":\"{}\"}}",
-                record.eventType(),
-                valueOrDefault(record.remoteId(), ""),
-                valueOrDefault(record.routeId(), ""),
-                record.durationMs() == null ? 0 : record.durationMs(),
-                record.correlationId(),
-                record.requestId(),
-                record.sessionId(),
-                record.userId());
-
-        return Map.of("status", "accepted");
-    }
-
-    @GetMapping("/admin/telemetry")
-    public List<TelemetryRecord> getTelemetry(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
-        adminAuthorizationService.requireAdmin(authorizationHeader);
-        return telemetryStore.list();
     }
 
-    private String resolveUser(String headerUserId, String authorizationHeader) {
-        if (headerUserId != null && !headerUserId.isBlank()) {
-            return headerUserId;
-        }
-
+    private String verifiedSubject(String authorizationHeader) {
         if (authorizationHeader == null || authorizationHeader.isBlank()) {
-            return "anonymous";
+            return null;
         }
 
         try {
             Claims claims = adminAuthorizationService.validateBearerToken(authorizationHeader);
             return claims.getSubject();
         } catch (Exception ignored) {
-            return "anonymous";
+            return null;
         }
     }
 
+    private Instant parseInstant(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, name + " must be an ISO-8601 instant");
+        }
+    }
+
+    private Long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    private static boolean isBlank(byte[] line, int length) {
+        for (int index = 0; index < length; index++) {
+            if (line[index] != ' ' && line[index] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
     private String valueOrDefault(String value, String fallback) {
         if (value == null || value.isBlank()) {
             return fallback;
@@ -0,0 +1,23 @@
+package com.mfe.registry.web;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.telemetry.export")
+public record TelemetryExportProperties(
+        boolean enabled,
+        String directory,
+        int queueCapacity,
+        OverflowPolicy overflow,
+        Duration blockTimeout,
+        long flushBytes,
+        Duration flushInterval,
+        long maxFileBytes,
+        Duration maxFileAge
+) {
+
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+}
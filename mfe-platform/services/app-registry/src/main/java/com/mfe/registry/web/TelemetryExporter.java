@@ -0,0 +1,258 @@
+package com.mfe.registry.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mfe.registry.BackgroundThreads;
+import com.mfe.registry.logging.StructuredEventLogger;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "app.telemetry.export", name = "enabled", havingValue = "true")
+public class TelemetryExporter implements TelemetryIngestListener {
+
+    private static final String FILE_PREFIX = "telemetry-";
+    private static final String FILE_SUFFIX = ".ndjson.gz";
+    private static final String PART_SUFFIX = ".part";
+    private static final int MAX_BATCH_RECORDS = 4096;
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmssSSS'Z'");
+
+    private final TelemetryExportProperties properties;
+    private final TelemetryExportProperties.OverflowPolicy overflow;
+    private final ObjectWriter recordWriter;
+    private final StructuredEventLogger eventLogger;
+    private final Path directory;
+    private final BlockingQueue<TelemetryController.TelemetryRecord> pending;
+    private final AtomicLong exported = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong blocked = new AtomicLong();
+    private final AtomicLong files = new AtomicLong();
+    private final Thread writer;
+
+    private FileChannel channel;
+    private OutputStream output;
+    private Path partPath;
+    private long fileOpenedAt;
+    private long unflushedBytes;
+    private long lastFlushAt;
+    private volatile String currentFile;
+    private volatile long currentFileBytes;
+    private volatile boolean running = true;
+
+    public TelemetryExporter(
+            TelemetryExportProperties properties,
+            ObjectMapper objectMapper,
+            StructuredEventLogger eventLogger,
+            BackgroundThreads backgroundThreads
+    ) throws IOException {
+        this.properties = properties;
+        this.overflow = properties.overflow() == null
+                ? TelemetryExportProperties.OverflowPolicy.DROP
+                : properties.overflow();
+        this.recordWriter = objectMapper.writerFor(TelemetryController.TelemetryRecord.class);
+        this.eventLogger = eventLogger;
+        this.directory = Path.of(properties.directory());
+        this.pending = new ArrayBlockingQueue<>(properties.queueCapacity());
+
+        Files.createDirectories(directory);
+        completeInterruptedFiles();
+
+        this.writer = backgroundThreads.start("telemetry-export-writer", this::runWriter);
+    }
+
+    public record TelemetryExportStats(
+            String directory,
+            String overflow,
+            long exported,
+            long dropped,
+            long blocked,
+            int pending,
+            long files,
+            String currentFile,
+            long currentFileBytes
+    ) {
+    }
+
+    @Override
+    public void onRecord(TelemetryController.TelemetryRecord record) {
+        if (pending.offer(record)) {
+            return;
+        }
+        if (overflow == TelemetryExportProperties.OverflowPolicy.DROP || !running) {
+            dropped.incrementAndGet();
+            return;
+        }
+        blocked.incrementAndGet();
+        try {
+            if (!pending.offer(record, properties.blockTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                dropped.incrementAndGet();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            dropped.incrementAndGet();
+        }
+    }
+
+    public TelemetryExportStats stats() {
+        return new TelemetryExportStats(
+                directory.toString(),
+                overflow.name(),
+                exported.get(),
+                dropped.get(),
+                blocked.get(),
+                pending.size(),
+                files.get(),
+                currentFile,
+                currentFileBytes
+        );
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        // The writer drains what is queued and completes its file before exiting.
+        running = false;
+        writer.join(properties.flushInterval().toMillis() + 30_000);
+    }
+
+    private void runWriter() {
+        List<TelemetryController.TelemetryRecord> batch = new ArrayList<>(MAX_BATCH_RECORDS);
+        long flushIntervalMs = properties.flushInterval().toMillis();
+        while (running || !pending.isEmpty()) {
+            try {
+                long waitMs = output == null ? flushIntervalMs : Math.max(1, lastFlushAt + flushIntervalMs - System.currentTimeMillis());
+                TelemetryController.TelemetryRecord first = pending.poll(waitMs, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    pending.drainTo(batch, MAX_BATCH_RECORDS - 1);
+                    write(batch);
+                    batch.clear();
+                }
+                if (output != null) {
+                    long now = System.currentTimeMillis();
+                    if (unflushedBytes > 0 && (unflushedBytes >= properties.flushBytes() || now - lastFlushAt >= flushIntervalMs)) {
+                        flush(now);
+                    } else if (now - fileOpenedAt >= properties.maxFileAge().toMillis()) {
+                        completeFile();
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (IOException | RuntimeException ex) {
+                dropped.addAndGet(batch.size());
+                batch.clear();
+                eventLogger.error("telemetry_export_write_failed")
+                        .field("directory", directory.toString())
+                        .field("file", currentFile)
+                        .field("error", ex.getMessage())
+                        .emit();
+                // Whatever made it to disk is kept; the next batch starts a fresh file.
+                completeFile();
+            }
+        }
+        completeFile();
+    }
+
+    private void write(List<TelemetryController.TelemetryRecord> batch) throws IOException {
+        if (output == null) {
+            openFile();
+        }
+        for (TelemetryController.TelemetryRecord record : batch) {
+            byte[] line = recordWriter.writeValueAsBytes(record);
+            output.write(line);
+            output.write('\n');
+            unflushedBytes += line.length + 1;
+        }
+        exported.addAndGet(batch.size());
+    }
+
+    // A sync flush ends the current deflate block, so everything up to here can be read from the .part file.
+    private void flush(long now) throws IOException {
+        output.flush();
+        unflushedBytes = 0;
+        lastFlushAt = now;
+        currentFileBytes = channel.position();
+        if (currentFileBytes >= properties.maxFileBytes() || now - fileOpenedAt >= properties.maxFileAge().toMillis()) {
+            completeFile();
+        }
+    }
+
+    private void openFile() throws IOException {
+        String name = FILE_PREFIX + ZonedDateTime.now(ZoneOffset.UTC).format(FILE_TIMESTAMP) + FILE_SUFFIX;
+        partPath = directory.resolve(name + PART_SUFFIX);
+        channel = FileChannel.open(partPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        output = new GZIPOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_BYTES), BUFFER_BYTES, true);
+        fileOpenedAt = System.currentTimeMillis();
+        lastFlushAt = fileOpenedAt;
+        unflushedBytes = 0;
+        currentFile = name;
+        currentFileBytes = 0;
+    }
+
+    private void completeFile() {
+        if (output == null) {
+            return;
+        }
+        Path completed = directory.resolve(currentFile);
+        try {
+            output.close();
+            Files.move(partPath, completed, StandardCopyOption.ATOMIC_MOVE);
+            files.incrementAndGet();
+            eventLogger.info("telemetry_export_file_completed")
+                    .field("file", completed.getFileName().toString())
+                    .field("bytes", Files.size(completed))
+                    .emit();
+        } catch (IOException ex) {
+            eventLogger.error("telemetry_export_complete_failed")
+                    .field("file", partPath.getFileName().toString())
+                    .field("error", ex.getMessage())
+                    .emit();
+        } finally {
+            output = null;
+            channel = null;
+            partPath = null;
+            currentFile = null;
+            currentFileBytes = 0;
+        }
+    }
+
+    // A .part file left by a crash holds every record up to its last sync flush; publish it as it is.
+    private void completeInterruptedFiles() throws IOException {
+        List<Path> interrupted;
+        try (Stream<Path> paths = Files.list(directory)) {
+            interrupted = paths
+                    .filter(path -> path.getFileName().toString().startsWith(FILE_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(FILE_SUFFIX + PART_SUFFIX))
+                    .toList();
+        }
+        for (Path path : interrupted) {
+            String name = path.getFileName().toString();
+            Files.move(path, path.resolveSibling(name.substring(0, name.length() - PART_SUFFIX.length())), StandardCopyOption.ATOMIC_MOVE);
+            eventLogger.warn("telemetry_export_recovered_partial_file")
+                    .field("file", name)
+                    .emit();
+        }
+    }
+}
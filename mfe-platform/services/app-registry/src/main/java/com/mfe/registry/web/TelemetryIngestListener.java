@@ -0,0 +1,11 @@
+package com.mfe.registry.web;
+
+public interface TelemetryIngestListener {
+
+    void onRecord(TelemetryController.TelemetryRecord record);
+
+    // principal is the subject of the verified bearer token the event arrived with, or null.
+    default void onRecord(TelemetryController.TelemetryRecord record, String principal) {
+        onRecord(record);
+    }
+}
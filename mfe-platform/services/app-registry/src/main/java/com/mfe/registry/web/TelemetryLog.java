@@ -0,0 +1,371 @@
+package com.mfe.registry.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mfe.registry.BackgroundThreads;
+import com.mfe.registry.logging.StructuredEventLogger;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+// Recovery replays the log into the store, so it runs at startup even when other beans are lazy.
+@Component
+@ConditionalOnProperty(prefix = "app.telemetry.log", name = "enabled", havingValue = "true")
+@Lazy(false)
+public class TelemetryLog implements TelemetryIngestListener {
+
+    private static final String SEGMENT_PREFIX = "telemetry-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int MAX_BATCH_FRAMES = 4096;
+    private static final long RETENTION_CHECK_INTERVAL_MS = 60_000;
+
+    private final TelemetryLogProperties properties;
+    private final TelemetryRecordCodec codec;
+    private final StructuredEventLogger eventLogger;
+    private final Path directory;
+    private final BlockingQueue<byte[]> pending;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final AtomicLong appended = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong fsyncs = new AtomicLong();
+    private final Thread writer;
+
+    private FileChannel activeChannel;
+    private long activeBytes;
+    private volatile long nextOffset;
+    private long recovered;
+    private long lastRetentionCheck;
+    private volatile boolean running = true;
+
+    public TelemetryLog(
+            TelemetryLogProperties properties,
+            ObjectMapper objectMapper,
+            TelemetryStore telemetryStore,
+            StructuredEventLogger eventLogger,
+            BackgroundThreads backgroundThreads
+    ) throws IOException {
+        this.properties = properties;
+        this.codec = new TelemetryRecordCodec(objectMapper);
+        this.eventLogger = eventLogger;
+        this.directory = Path.of(properties.directory());
+        this.pending = new ArrayBlockingQueue<>(properties.queueCapacity());
+
+        Files.createDirectories(directory);
+        recover(telemetryStore, telemetryStore.stats().capacity());
+        openActiveSegment();
+
+        this.writer = backgroundThreads.start("telemetry-log-writer", this::runWriter);
+    }
+
+    private record Segment(Path path, long baseOffset, long records) {
+    }
+
+    public record TelemetryLogStats(
+            String directory,
+            int segments,
+            long bytes,
+            long nextOffset,
+            long appended,
+            long dropped,
+            int pending,
+            long fsyncs,
+            long recovered
+    ) {
+    }
+
+    @Override
+    public void onRecord(TelemetryController.TelemetryRecord record) {
+        byte[] frame = codec.encodeFrame(record);
+        if (frame == null || !pending.offer(frame)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public TelemetryLogStats stats() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            bytes += sizeOf(segment.path());
+        }
+        return new TelemetryLogStats(
+                directory.toString(),
+                segments.size(),
+                bytes,
+                nextOffset,
+                appended.get(),
+                dropped.get(),
+                pending.size(),
+                fsyncs.get(),
+                recovered
+        );
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException, IOException {
+        running = false;
+        writer.join(properties.flushInterval().toMillis() * 10 + 5_000);
+        if (writer.isAlive()) {
+            // Closing under a writer still in write or force would fail its batch; the OS closes the file at exit.
+            eventLogger.warn("telemetry_log_close_timeout")
+                    .field("pending", pending.size())
+                    .emit();
+            return;
+        }
+        activeChannel.close();
+    }
+
+    private void runWriter() {
+        List<byte[]> batch = new ArrayList<>(MAX_BATCH_FRAMES);
+        long flushIntervalMs = properties.flushInterval().toMillis();
+        while (running || !pending.isEmpty()) {
+            try {
+                byte[] first = pending.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    pending.drainTo(batch, MAX_BATCH_FRAMES - 1);
+                    appendAndSync(batch);
+                    batch.clear();
+                }
+                if (System.currentTimeMillis() - lastRetentionCheck > RETENTION_CHECK_INTERVAL_MS) {
+                    enforceRetention();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException ex) {
+                dropped.addAndGet(batch.size());
+                batch.clear();
+                eventLogger.error("telemetry_log_write_failed")
+                        .field("directory", directory.toString())
+                        .field("error", ex.getMessage())
+                        .emit();
+                discardPartialWrite();
+            }
+        }
+    }
+
+    private void appendAndSync(List<byte[]> batch) throws IOException {
+        ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+        long bytes = 0;
+        for (int index = 0; index < buffers.length; index++) {
+            buffers[index] = ByteBuffer.wrap(batch.get(index));
+            bytes += buffers[index].remaining();
+        }
+
+        long written = 0;
+        while (written < bytes) {
+            written += write(activeChannel, buffers);
+        }
+        // Group commit: one fsync covers every frame drained in this batch.
+        activeChannel.force(false);
+        fsyncs.incrementAndGet();
+
+        activeBytes += bytes;
+        nextOffset += batch.size();
+        appended.addAndGet(batch.size());
+
+        if (activeBytes >= properties.segmentBytes()) {
+            rollSegment();
+        }
+    }
+
+    long write(FileChannel channel, ByteBuffer[] buffers) throws IOException {
+        return channel.write(buffers);
+    }
+
+    // A failed batch may have left part of a frame behind, and recovery stops reading a segment at the first bad
+    // frame. Cut the file back to the last synced batch, or start a new segment if that fails too.
+    private void discardPartialWrite() {
+        try {
+            activeChannel.truncate(activeBytes);
+            activeChannel.force(false);
+        } catch (IOException | RuntimeException truncateFailure) {
+            try {
+                rollSegment();
+            } catch (IOException | RuntimeException rollFailure) {
+                eventLogger.error("telemetry_log_reset_failed")
+                        .field("directory", directory.toString())
+                        .field("error", rollFailure.getMessage())
+                        .emit();
+            }
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        activeChannel.close();
+        Segment last = segments.get(segments.size() - 1);
+        segments.set(segments.size() - 1, new Segment(last.path(), last.baseOffset(), nextOffset - last.baseOffset()));
+        createSegment(nextOffset);
+        enforceRetention();
+    }
+
+    private void openActiveSegment() throws IOException {
+        if (segments.isEmpty() || sizeOf(segments.get(segments.size() - 1).path()) >= properties.segmentBytes()) {
+            createSegment(nextOffset);
+            return;
+        }
+        Path path = segments.get(segments.size() - 1).path();
+        activeChannel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        activeBytes = activeChannel.size();
+    }
+
+    private void createSegment(long baseOffset) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, baseOffset, SEGMENT_SUFFIX));
+        activeChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        activeBytes = activeChannel.size();
+        segments.add(new Segment(path, baseOffset, 0));
+    }
+
+    private void enforceRetention() {
+        lastRetentionCheck = System.currentTimeMillis();
+        Instant oldestAllowed = Instant.now().minus(properties.retention());
+        long totalBytes = 0;
+        for (Segment segment : segments) {
+            totalBytes += sizeOf(segment.path());
+        }
+
+        while (segments.size() > 1) {
+            Segment oldest = segments.get(0);
+            boolean overSize = totalBytes > properties.retentionBytes();
+            boolean expired = lastModified(oldest.path()).isBefore(oldestAllowed);
+            if (!overSize && !expired) {
+                return;
+            }
+
+            long bytes = sizeOf(oldest.path());
+            try {
+                Files.deleteIfExists(oldest.path());
+            } catch (IOException ex) {
+                // Segments mapped during recovery can stay locked on some platforms until the mapping is collected.
+                eventLogger.warn("telemetry_log_retention_deferred")
+                        .field("segment", oldest.path().getFileName().toString())
+                        .field("error", ex.getMessage())
+                        .emit();
+                return;
+            }
+            segments.remove(0);
+            totalBytes -= bytes;
+        }
+    }
+
+    private void recover(TelemetryStore telemetryStore, int replayLimit) throws IOException {
+        List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        for (int index = 0; index < paths.size(); index++) {
+            Path path = paths.get(index);
+            boolean last = index == paths.size() - 1;
+            long baseOffset = parseBaseOffset(path);
+            long[] scan = scanSegment(path);
+            long records = scan[0];
+            long validBytes = scan[1];
+
+            if (last && validBytes < sizeOf(path)) {
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                    channel.truncate(validBytes);
+                }
+                eventLogger.warn("telemetry_log_truncated_torn_tail")
+                        .field("segment", path.getFileName().toString())
+                        .field("validBytes", validBytes)
+                        .emit();
+            }
+            segments.add(new Segment(path, baseOffset, records));
+            nextOffset = baseOffset + records;
+        }
+
+        replay(telemetryStore, replayLimit);
+    }
+
+    private void replay(TelemetryStore telemetryStore, int replayLimit) throws IOException {
+        long remaining = replayLimit;
+        int firstSegment = segments.size();
+        while (firstSegment > 0 && remaining > 0) {
+            firstSegment--;
+            remaining -= segments.get(firstSegment).records();
+        }
+        long skip = Math.max(0, -remaining);
+
+        for (int index = firstSegment; index < segments.size(); index++) {
+            MappedByteBuffer buffer = map(segments.get(index).path());
+            int payloadLength;
+            while ((payloadLength = TelemetryRecordCodec.validFrameLength(buffer)) > 0) {
+                int payloadStart = buffer.position() + TelemetryRecordCodec.HEADER_BYTES;
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    telemetryStore.add(codec.decodePayload(buffer.slice(payloadStart, payloadLength)));
+                    recovered++;
+                }
+                buffer.position(payloadStart + payloadLength);
+            }
+        }
+
+        if (recovered > 0) {
+            eventLogger.info("telemetry_log_recovered")
+                    .field("records", recovered)
+                    .field("segments", segments.size())
+                    .field("nextOffset", nextOffset)
+                    .emit();
+        }
+    }
+
+    private long[] scanSegment(Path path) throws IOException {
+        MappedByteBuffer buffer = map(path);
+        long records = 0;
+        int payloadLength;
+        while ((payloadLength = TelemetryRecordCodec.validFrameLength(buffer)) > 0) {
+            buffer.position(buffer.position() + TelemetryRecordCodec.HEADER_BYTES + payloadLength);
+            records++;
+        }
+        return new long[] {records, buffer.position()};
+    }
+
+    private static MappedByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static long parseBaseOffset(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.exists(path) ? Files.size(path) : 0;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static Instant lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
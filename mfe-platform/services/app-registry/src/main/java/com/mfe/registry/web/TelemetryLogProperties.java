@@ -0,0 +1,16 @@
+package com.mfe.registry.web;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.telemetry.log")
+public record TelemetryLogProperties(
+        boolean enabled,
+        String directory,
+        long segmentBytes,
+        long retentionBytes,
+        Duration retention,
+        Duration flushInterval,
+        int queueCapacity
+) {
+}
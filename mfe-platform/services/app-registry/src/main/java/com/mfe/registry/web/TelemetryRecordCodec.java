@@ -0,0 +1,185 @@
+package com.mfe.registry.web;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+public class TelemetryRecordCodec {
+
+    public static final int HEADER_BYTES = Integer.BYTES * 2;
+    public static final int MAX_PAYLOAD_BYTES = 1024 * 1024;
+
+    private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    public TelemetryRecordCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    // Returns null when the payload exceeds MAX_PAYLOAD_BYTES: recovery reads such a frame as torn, so it is never written.
+    public byte[] encodeFrame(TelemetryController.TelemetryRecord record) {
+        FrameOutput output = new FrameOutput();
+        output.writeInt(0);
+        output.writeInt(0);
+        output.writeString(record.timestamp());
+        output.writeString(record.correlationId());
+        output.writeString(record.requestId());
+        output.writeString(record.sessionId());
+        output.writeString(record.userId());
+        output.writeString(record.eventType());
+        output.writeString(record.remoteId());
+        output.writeString(record.routeId());
+        output.writeString(record.level());
+        if (record.durationMs() == null) {
+            output.write(0);
+        } else {
+            output.write(1);
+            output.writeVarLong(record.durationMs());
+        }
+        output.writeString(record.message());
+        output.writeLengthPrefixed(record.metadata() == null ? null : serializeMetadata(record.metadata()));
+
+        int payloadLength = output.size() - HEADER_BYTES;
+        if (payloadLength > MAX_PAYLOAD_BYTES) {
+            return null;
+        }
+        byte[] frame = output.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(frame, HEADER_BYTES, payloadLength);
+        ByteBuffer.wrap(frame).putInt(payloadLength).putInt((int) crc.getValue());
+        return frame;
+    }
+
+    // Returns the payload length of the frame at the buffer's position, or -1 when the frame is torn or corrupt.
+    public static int validFrameLength(ByteBuffer buffer) {
+        int position = buffer.position();
+        if (buffer.remaining() < HEADER_BYTES) {
+            return -1;
+        }
+        int payloadLength = buffer.getInt(position);
+        int expectedCrc = buffer.getInt(position + Integer.BYTES);
+        if (payloadLength <= 0 || payloadLength > MAX_PAYLOAD_BYTES || payloadLength > buffer.remaining() - HEADER_BYTES) {
+            return -1;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(position + HEADER_BYTES, payloadLength));
+        return (int) crc.getValue() == expectedCrc ? payloadLength : -1;
+    }
+
+    public TelemetryController.TelemetryRecord decodePayload(ByteBuffer payload) {
+        String timestamp = readString(payload);
+        String correlationId = readString(payload);
+        String requestId = readString(payload);
+        String sessionId = readString(payload);
+        String userId = readString(payload);
+        String eventType = readString(payload);
+        String remoteId = readString(payload);
+        String routeId = readString(payload);
+        String level = readString(payload);
+        Long durationMs = payload.get() == 0 ? null : readVarLong(payload);
+        String message = readString(payload);
+        byte[] metadata = readBytes(payload);
+
+        return new TelemetryController.TelemetryRecord(
+                timestamp,
+                correlationId,
+                requestId,
+                sessionId,
+                userId,
+                eventType,
+                remoteId,
+                routeId,
+                level,
+                durationMs,
+                message,
+                metadata == null ? null : deserializeMetadata(metadata)
+        );
+    }
+
+    private byte[] serializeMetadata(Map<String, Object> metadata) {
+        try {
+            return objectMapper.writeValueAsBytes(metadata);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private Map<String, Object> deserializeMetadata(byte[] metadata) {
+        try {
+            return objectMapper.readValue(metadata, METADATA_TYPE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = readBytes(buffer);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        long encodedLength = readVarLong(buffer);
+        if (encodedLength == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[(int) (encodedLength - 1)];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = buffer.get();
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class FrameOutput extends ByteArrayOutputStream {
+
+        FrameOutput() {
+            super(256);
+        }
+
+        void writeInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+
+        void writeVarLong(long value) {
+            long zigZag = (value << 1) ^ (value >> 63);
+            while ((zigZag & ~0x7FL) != 0) {
+                write((int) ((zigZag & 0x7F) | 0x80));
+                zigZag >>>= 7;
+            }
+            write((int) zigZag);
+        }
+
+        void writeString(String value) {
+            writeLengthPrefixed(value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void writeLengthPrefixed(byte[] value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            writeVarLong(value.length + 1L);
+            write(value, 0, value.length);
+        }
+    }
+}
@@ -1,25 +1,283 @@
 package com.mfe.registry.web;
 
-import java.util.ArrayDeque;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class TelemetryStore {
 
-    private static final int MAX_EVENTS = 500;
-    private final Deque<TelemetryController.TelemetryRecord> events = new ArrayDeque<>();
+    private static final int QUERY_CHUNK_SIZE = 256;
 
-    public synchronized void add(TelemetryController.TelemetryRecord record) {
-        events.addFirst(record);
-        while (events.size() > MAX_EVENTS) {
-            events.removeLast();
+    private final int capacity;
+    private final AtomicReferenceArray<Slot> slots;
+    private final AtomicLong nextSequence = new AtomicLong();
+    // Owned by queries: ingest never touches the indexes, and only queries take indexLock.
+    private final ReentrantLock indexLock = new ReentrantLock();
+    private final Map<IndexedField, Map<String, SequencePostingList>> indexes = new EnumMap<>(IndexedField.class);
+    private long indexedUpTo;
+
+    public TelemetryStore(@Value("${app.telemetry.capacity:500}") int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("app.telemetry.capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        for (IndexedField field : IndexedField.values()) {
+            indexes.put(field, new HashMap<>());
+        }
+    }
+
+    private record Slot(long sequence, TelemetryController.TelemetryRecord record) {
+    }
+
+    public record TelemetryStoreStats(int capacity, int size, long ingested, long overwritten) {
+    }
+
+    public record TelemetryQuery(
+            String remoteId,
+            String sessionId,
+            String correlationId,
+            String eventType,
+            String level,
+            Instant from,
+            Instant to,
+            Long before,
+            int limit
+    ) {
+    }
+
+    public record TelemetryPage(List<TelemetryController.TelemetryRecord> records, Long nextCursor) {
+    }
+
+    private enum IndexedField {
+        REMOTE_ID(TelemetryController.TelemetryRecord::remoteId, TelemetryQuery::remoteId),
+        SESSION_ID(TelemetryController.TelemetryRecord::sessionId, TelemetryQuery::sessionId),
+        CORRELATION_ID(TelemetryController.TelemetryRecord::correlationId, TelemetryQuery::correlationId),
+        EVENT_TYPE(TelemetryController.TelemetryRecord::eventType, TelemetryQuery::eventType),
+        LEVEL(TelemetryController.TelemetryRecord::level, TelemetryQuery::level);
+
+        private final Function<TelemetryController.TelemetryRecord, String> recordValue;
+        private final Function<TelemetryQuery, String> queryValue;
+
+        IndexedField(
+                Function<TelemetryController.TelemetryRecord, String> recordValue,
+                Function<TelemetryQuery, String> queryValue
+        ) {
+            this.recordValue = recordValue;
+            this.queryValue = queryValue;
+        }
+    }
+
+    private final class PageCollector {
+
+        private final TelemetryQuery query;
+        private final List<TelemetryController.TelemetryRecord> records = new ArrayList<>();
+        private long lastSequence = -1;
+        private boolean hasMore;
+
+        PageCollector(TelemetryQuery query) {
+            this.query = query;
+        }
+
+        void offer(long sequence, TelemetryController.TelemetryRecord record) {
+            if (record == null || !matches(record, query)) {
+                return;
+            }
+            if (records.size() == query.limit()) {
+                hasMore = true;
+                return;
+            }
+            records.add(record);
+            lastSequence = sequence;
+        }
+
+        boolean isFull() {
+            return hasMore;
+        }
+
+        TelemetryPage toPage() {
+            return new TelemetryPage(records, hasMore ? lastSequence : null);
+        }
+    }
+
+    public void add(TelemetryController.TelemetryRecord record) {
+        long sequence = nextSequence.getAndIncrement();
+        int index = indexOf(sequence);
+        Slot next = new Slot(sequence, record);
+
+        Slot previous;
+        do {
+            previous = slots.get(index);
+            if (previous != null && previous.sequence() > sequence) {
+                // A producer that wrapped around the ring already published a newer event here.
+                return;
+            }
+        } while (!slots.compareAndSet(index, previous, next));
+    }
+
+    public List<TelemetryController.TelemetryRecord> list() {
+        long end = nextSequence.get();
+        long start = Math.max(0, end - capacity);
+        List<TelemetryController.TelemetryRecord> snapshot = new ArrayList<>((int) (end - start));
+        for (long sequence = end - 1; sequence >= start; sequence--) {
+            TelemetryController.TelemetryRecord record = recordAt(sequence);
+            if (record != null) {
+                snapshot.add(record);
+            }
+        }
+        return snapshot;
+    }
+
+    public TelemetryPage query(TelemetryQuery query) {
+        indexLock.lock();
+        try {
+            long end = nextSequence.get();
+            long start = Math.max(0, end - capacity);
+            catchUp(start, end);
+
+            long before = query.before() == null ? end : Math.min(query.before(), end);
+            PageCollector collector = new PageCollector(query);
+            // Events past the first unpublished slot are not indexed yet; scan them straight from the ring.
+            long indexed = Math.max(start, indexedUpTo);
+            for (long sequence = before - 1; sequence >= indexed && !collector.isFull(); sequence--) {
+                collector.offer(sequence, recordAt(sequence));
+            }
+            before = Math.min(before, indexed);
+
+            IndexedField driver = selectDriver(query, start);
+            if (driver == null) {
+                for (long sequence = before - 1; sequence >= start && !collector.isFull(); sequence--) {
+                    collector.offer(sequence, recordAt(sequence));
+                }
+                return collector.toPage();
+            }
+
+            SequencePostingList postings = indexes.get(driver).get(driver.queryValue.apply(query));
+            if (postings == null) {
+                return collector.toPage();
+            }
+            long[] chunk = new long[QUERY_CHUNK_SIZE];
+            while (!collector.isFull()) {
+                int collected = postings.collectBefore(before, chunk);
+                for (int position = 0; position < collected && !collector.isFull(); position++) {
+                    // offer re-checks the slot sequence and every filter, so a posting can never surface a stale event.
+                    collector.offer(chunk[position], recordAt(chunk[position]));
+                    before = chunk[position];
+                }
+                if (collected < chunk.length) {
+                    break;
+                }
+            }
+            return collector.toPage();
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    public TelemetryStoreStats stats() {
+        long ingested = nextSequence.get();
+        return new TelemetryStoreStats(
+                capacity,
+                (int) Math.min(ingested, capacity),
+                ingested,
+                Math.max(0, ingested - capacity)
+        );
+    }
+
+    private TelemetryController.TelemetryRecord recordAt(long sequence) {
+        Slot slot = slots.get(indexOf(sequence));
+        // A mismatched sequence means the slot was overwritten by a newer event or is not yet published.
+        return slot != null && slot.sequence() == sequence ? slot.record() : null;
+    }
+
+    // Indexes published slots in sequence order, so postings stay sorted. Stops at the first slot whose producer
+    // has claimed but not yet published; a slot already overwritten by a newer event is skipped.
+    private void catchUp(long start, long end) {
+        long sequence = Math.max(indexedUpTo, start);
+        for (; sequence < end; sequence++) {
+            Slot slot = slots.get(indexOf(sequence));
+            if (slot == null || slot.sequence() < sequence) {
+                break;
+            }
+            if (slot.sequence() > sequence) {
+                continue;
+            }
+            for (IndexedField field : IndexedField.values()) {
+                String value = field.recordValue.apply(slot.record());
+                if (value != null) {
+                    SequencePostingList postings = indexes.get(field).computeIfAbsent(value, key -> new SequencePostingList());
+                    postings.removeBefore(start);
+                    postings.add(sequence);
+                }
+            }
+        }
+        indexedUpTo = sequence;
+
+        for (Map<String, SequencePostingList> index : indexes.values()) {
+            // At most capacity keys can be live, so sweeping past twice that keeps the cost amortized per event.
+            if (index.size() > 2 * capacity) {
+                index.values().removeIf(postings -> {
+                    postings.removeBefore(start);
+                    return postings.isEmpty();
+                });
+            }
+        }
+    }
+
+    private IndexedField selectDriver(TelemetryQuery query, long start) {
+        IndexedField driver = null;
+        int smallest = Integer.MAX_VALUE;
+        for (IndexedField field : IndexedField.values()) {
+            String value = field.queryValue.apply(query);
+            if (value == null) {
+                continue;
+            }
+            SequencePostingList postings = indexes.get(field).get(value);
+            if (postings != null) {
+                postings.removeBefore(start);
+            }
+            int size = postings == null ? 0 : postings.size();
+            if (size < smallest) {
+                smallest = size;
+                driver = field;
+            }
+        }
+        return driver;
+    }
+
+    private boolean matches(TelemetryController.TelemetryRecord record, TelemetryQuery query) {
+        for (IndexedField field : IndexedField.values()) {
+            String expected = field.queryValue.apply(query);
+            if (expected != null && !expected.equals(field.recordValue.apply(record))) {
+                return false;
+            }
+        }
+
+        if (query.from() == null && query.to() == null) {
+            return true;
+        }
+        Instant timestamp;
+        try {
+            timestamp = Instant.parse(record.timestamp());
+        } catch (DateTimeParseException ex) {
+            return false;
         }
+        return (query.from() == null || !timestamp.isBefore(query.from()))
+                && (query.to() == null || timestamp.isBefore(query.to()));
     }
 
-    public synchronized List<TelemetryController.TelemetryRecord> list() {
-        return new ArrayList<>(events);
+    private int indexOf(long sequence) {
+        return (int) (sequence % capacity);
     }
 }
@@ -0,0 +1,86 @@
+package com.mfe.registry.web;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+public final class TimerWheel<E> {
+
+    private final long tickMillis;
+    private final ArrayDeque<E>[] slots;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long tickMillis, long horizonMillis, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayDeque[(int) (horizonMillis / tickMillis) + 2];
+        for (int index = 0; index < slots.length; index++) {
+            slots[index] = new ArrayDeque<>();
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    public void schedule(E entry, long deadlineMillis) {
+        lock.lock();
+        try {
+            file(entry, deadlineMillis);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Visits every entry filed up to now. deadline returns the entry's current deadline, or -1 once it has expired
+    // the entry, which then leaves the wheel.
+    public int advance(long nowMillis, ToLongFunction<E> deadline) {
+        int expired = 0;
+        long targetTick = nowMillis / tickMillis;
+        while (true) {
+            ArrayDeque<E> due;
+            lock.lock();
+            try {
+                if (currentTick >= targetTick) {
+                    return expired;
+                }
+                currentTick++;
+                ArrayDeque<E> slot = slots[(int) (currentTick % slots.length)];
+                if (slot.isEmpty()) {
+                    continue;
+                }
+                due = new ArrayDeque<>(slot);
+                slot.clear();
+                size -= due.size();
+            } finally {
+                lock.unlock();
+            }
+
+            // Deadlines are checked outside the wheel lock; they take the entry's own lock.
+            for (E entry : due) {
+                long next = deadline.applyAsLong(entry);
+                if (next < 0) {
+                    expired++;
+                } else {
+                    schedule(entry, next);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void file(E entry, long deadlineMillis) {
+        // Never into the current or a past slot, and never past the horizon; a later deadline is re-filed on arrival.
+        long tick = Math.max(currentTick + 1, Math.min(deadlineMillis / tickMillis, currentTick + slots.length - 1));
+        slots[(int) (tick % slots.length)].add(entry);
+        size++;
+    }
+}
@@ -0,0 +1,55 @@
+package com.mfe.registry.web;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class TokenBucketLimiter {
+
+    // Keys beyond maxKeys share this bucket, so a flood of fresh session ids cannot grow memory.
+    static final String OVERFLOW_KEY = "\u0000overflow";
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public TokenBucketLimiter(double ratePerSecond, int burst, int maxKeys) {
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / ratePerSecond));
+        this.burstNanos = intervalNanos * Math.max(1, burst);
+        this.maxKeys = maxKeys;
+    }
+
+    // Zero when a token was taken, otherwise the nanoseconds until one will be available.
+    public long tryAcquire(String key, long nowNanos) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.size() < maxKeys
+                    ? buckets.computeIfAbsent(key, ignored -> new AtomicLong(nowNanos))
+                    : buckets.computeIfAbsent(OVERFLOW_KEY, ignored -> new AtomicLong(nowNanos));
+        }
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, nowNanos) + intervalNanos;
+            long ahead = next - nowNanos;
+            if (ahead > burstNanos) {
+                return ahead - burstNanos;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // A bucket whose arrival time has passed is full again and behaves exactly like a missing one, so dropping it
+    // loses nothing. A token taken concurrently from a bucket being dropped is forgiven, never double-charged.
+    public int evictIdle(long nowNanos) {
+        int before = buckets.size();
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() <= nowNanos);
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
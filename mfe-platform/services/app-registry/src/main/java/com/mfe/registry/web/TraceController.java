@@ -0,0 +1,40 @@
+package com.mfe.registry.web;
+
+import com.mfe.registry.auth.AdminAuthorizationService;
+import com.mfe.registry.tracing.SlowTraceBuffer;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/traces")
+@CrossOrigin(origins = "${app.cors.allowed-origins:http://localhost:5173}")
+public class TraceController {
+
+    private final SlowTraceBuffer slowTraceBuffer;
+    private final AdminAuthorizationService adminAuthorizationService;
+
+    public TraceController(SlowTraceBuffer slowTraceBuffer, AdminAuthorizationService adminAuthorizationService) {
+        this.slowTraceBuffer = slowTraceBuffer;
+        this.adminAuthorizationService = adminAuthorizationService;
+    }
+
+    @GetMapping("/slowest")
+    public List<SlowTraceBuffer.SlowTrace> getSlowestTraces(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        adminAuthorizationService.requireAdmin(authorizationHeader);
+        return slowTraceBuffer.slowest();
+    }
+
+    @DeleteMapping("/slowest")
+    public ResponseEntity<Void> clearSlowestTraces(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        adminAuthorizationService.requireAdmin(authorizationHeader);
+        slowTraceBuffer.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.mfe.registry.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "test-super-secret-signing-key-of-sufficient-length";
+
+    @Test
+    void servesARepeatedTokenFromTheCache() {
+        JwtService service = service(16);
+        String token = service.issueToken("user-1", List.of("USER"));
+
+        JwtService.VerifiedToken first = service.validateToken(token);
+        JwtService.VerifiedToken second = service.validateToken(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.claims().getSubject()).isEqualTo("user-1");
+        assertThat(second.roles()).containsExactly("USER");
+        assertThat(service.cacheStats()).isEqualTo(new JwtService.TokenCacheStats(1, 16, 1, 1, 0));
+    }
+
+    @Test
+    void keysOnTheWholeTokenSoATamperedSignatureIsStillVerified() {
+        JwtService service = service(16);
+        String token = service.issueToken("user-1", List.of("USER"));
+        service.validateToken(token);
+        int signatureStart = token.lastIndexOf('.') + 1;
+        String tampered = token.substring(0, signatureStart)
+                + (token.charAt(signatureStart) == 'A' ? 'B' : 'A')
+                + token.substring(signatureStart + 1);
+
+        assertThatThrownBy(() -> service.validateToken(tampered)).isInstanceOf(SignatureException.class);
+        assertThat(service.cacheStats().size()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsTokensSignedWithAnotherKey() {
+        JwtService service = service(16);
+        String foreign = new JwtService("another-secret-signing-key-of-sufficient-length!", 60, 16, new SimpleMeterRegistry())
+                .issueToken("admin", List.of("ADMIN"));
+
+        assertThatThrownBy(() -> service.validateToken(foreign)).isInstanceOf(SignatureException.class);
+        assertThat(service.cacheStats().size()).isZero();
+    }
+
+    @Test
+    void trimsTheCacheToMaxEntries() {
+        JwtService service = service(10);
+        for (int index = 0; index < 25; index++) {
+            service.validateToken(service.issueToken("user-" + index, List.of("USER")));
+        }
+
+        assertThat(service.cacheStats().size()).isLessThanOrEqualTo(10);
+        assertThat(service.cacheStats().evictions()).isPositive();
+    }
+
+    @Test
+    void cachesNothingWhenDisabled() {
+        JwtService service = service(0);
+        String token = service.issueToken("user-1", List.of("USER"));
+        service.validateToken(token);
+        service.validateToken(token);
+
+        assertThat(service.cacheStats().size()).isZero();
+        assertThat(service.cacheStats().misses()).isEqualTo(2);
+    }
+
+    private static JwtService service(int cacheMaxEntries) {
+        return new JwtService(SECRET, 60, cacheMaxEntries, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,88 @@
+package com.mfe.registry.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.mfe.registry.BackgroundThreads;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+class StructuredEventLoggerTest {
+
+    private final Logger events = (Logger) LoggerFactory.getLogger("com.mfe.registry.events");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void attach() {
+        appender.start();
+        events.addAppender(appender);
+    }
+
+    @AfterEach
+    void detach() {
+        events.detachAppender(appender);
+    }
+
+    @Test
+    void nestedEventsDoNotShareABuilder() throws InterruptedException {
+        StructuredEventLogger logger = newLogger();
+
+        logger.info("outer")
+                .field("before", 1)
+                .field("inner", describe(logger))
+                .field("after", 2)
+                .emit();
+        logger.close();
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly(
+                "{\"event\":\"inner\",\"depth\":2}",
+                "{\"event\":\"outer\",\"before\":1,\"inner\":\"logged\",\"after\":2}"
+        );
+    }
+
+    @Test
+    void reusesTheThreadBuilderWithoutCarryingFieldsOver() throws InterruptedException {
+        StructuredEventLogger logger = newLogger();
+
+        logger.info("first").field("text", "x".repeat(10_000)).emit();
+        logger.info("second").field("count", 1).emit();
+        logger.close();
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .element(1)
+                .isEqualTo("{\"event\":\"second\",\"count\":1}");
+    }
+
+    @Test
+    void escapesStringsAndNonFiniteNumbers() throws InterruptedException {
+        StructuredEventLogger logger = newLogger();
+
+        logger.warn("escaped")
+                .field("text", "a\"b\\c\n\u0001")
+                .field("ratio", Double.NaN)
+                .field("missing", (String) null)
+                .emit();
+        logger.close();
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly(
+                "{\"event\":\"escaped\",\"text\":\"a\\\"b\\\\c\\n\\u0001\",\"ratio\":null,\"missing\":null}"
+        );
+    }
+
+    private static StructuredEventLogger newLogger() {
+        return new StructuredEventLogger(
+                new StructuredLoggingProperties(64, StructuredLoggingProperties.OverflowPolicy.DROP, List.of()),
+                new BackgroundThreads(new MockEnvironment()));
+    }
+
+    private static String describe(StructuredEventLogger logger) {
+        logger.info("inner").field("depth", 2).emit();
+        return "logged";
+    }
+}
@@ -0,0 +1,45 @@
+package com.mfe.registry.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class EndpointTimersTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final EndpointTimers timers = new EndpointTimers(registry);
+
+    @Test
+    void keepsOneSeriesPerMethodAndStatus() {
+        timers.record("GET", "/api/registry", 200, 1_000_000);
+        timers.record("GET", "/api/registry", 200, 3_000_000);
+        timers.record("GET", "/api/registry", 304, 1_000_000);
+        timers.record("POST", "/api/registry", 200, 1_000_000);
+
+        assertThat(timer("GET", "/api/registry", "200").count()).isEqualTo(2);
+        assertThat(timer("GET", "/api/registry", "200").totalTime(TimeUnit.MILLISECONDS)).isEqualTo(4.0);
+        assertThat(timer("GET", "/api/registry", "304").count()).isEqualTo(1);
+        assertThat(timer("POST", "/api/registry", "200").count()).isEqualTo(1);
+        assertThat(registry.find("registry.http.requests").timers()).hasSize(3);
+    }
+
+    @Test
+    void tagsUnmatchedRequestsByOutcome() {
+        timers.record("PATCH", null, 404, 1_000_000);
+        timers.record("GET", null, 302, 1_000_000);
+
+        assertThat(timer("OTHER", "NOT_FOUND", "404").getId().getTag("outcome")).isEqualTo("CLIENT_ERROR");
+        assertThat(timer("GET", "REDIRECTION", "302").getId().getTag("outcome")).isEqualTo("REDIRECTION");
+    }
+
+    private Timer timer(String method, String uri, String status) {
+        return registry.get("registry.http.requests")
+                .tag("method", method)
+                .tag("uri", uri)
+                .tag("status", status)
+                .timer();
+    }
+}
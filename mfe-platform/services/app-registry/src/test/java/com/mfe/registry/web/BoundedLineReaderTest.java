@@ -0,0 +1,64 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class BoundedLineReaderTest {
+
+    @Test
+    void splitsLinesAndStripsCarriageReturns() throws IOException {
+        BoundedLineReader reader = reader("first\r\n\nsecond\nlast", 64, 1024);
+
+        assertThat(reader.readLine()).isEqualTo("first");
+        assertThat(reader.readLine()).isEmpty();
+        assertThat(reader.readLine()).isEqualTo("second");
+        assertThat(reader.readLine()).isEqualTo("last");
+        assertThat(reader.readLine()).isNull();
+    }
+
+    @Test
+    void decodesUtf8() throws IOException {
+        assertThat(reader("{\"message\":\"café\"}\n", 64, 1024).readLine()).isEqualTo("{\"message\":\"café\"}");
+    }
+
+    @Test
+    void acceptsLineAtLimit() throws IOException {
+        assertThat(reader("x".repeat(600) + "\n", 600, 1024).readLine()).hasSize(600);
+    }
+
+    @Test
+    void rejectsLongLine() {
+        BoundedLineReader reader = reader("x".repeat(601) + "\n", 600, 4096);
+
+        assertThatThrownBy(reader::readLine)
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE));
+    }
+
+    @Test
+    void rejectsBodyOverTotalLimit() throws IOException {
+        BoundedLineReader reader = reader("a\n".repeat(10_000), 64, 8192);
+
+        assertThatThrownBy(() -> {
+            while (reader.readLine() != null) {
+                // drain
+            }
+        }).isInstanceOfSatisfying(ResponseStatusException.class,
+                ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE));
+    }
+
+    private static BoundedLineReader reader(String body, int maxLineBytes, long maxTotalBytes) {
+        return new BoundedLineReader(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                maxLineBytes,
+                maxTotalBytes
+        );
+    }
+}
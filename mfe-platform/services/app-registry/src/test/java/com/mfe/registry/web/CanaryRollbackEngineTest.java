@@ -0,0 +1,124 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CanaryRollbackEngineTest {
+
+    private static final String REMOTE = "remote-accounts";
+
+    private final RegistrySnapshotStore snapshotStore = RegistryFixtures.snapshotStore();
+    private final CanaryRollbackEngine engine = new CanaryRollbackEngine(
+            new CanaryRollbackProperties(true, Duration.ofMinutes(2), Duration.ofMillis(10), 20, 5, 0.5, 0.1, 2.0, 500),
+            snapshotStore,
+            RegistryFixtures.eventLogger(),
+            RegistryFixtures.backgroundThreads()
+    );
+
+    @AfterEach
+    void close() {
+        engine.close();
+    }
+
+    @Test
+    void ignoresEventsWithoutAVerifiedPrincipal() throws InterruptedException {
+        snapshotStore.updateCanaryFlag(REMOTE, true, 100);
+        for (int index = 0; index < 50; index++) {
+            engine.onRecord(canaryFailure("user-" + index), null);
+        }
+
+        Thread.sleep(100);
+        assertThat(engine.stats().rejectedSamples()).isEqualTo(50);
+        assertThat(snapshotStore.canaryFlag(REMOTE).enabled()).isTrue();
+    }
+
+    @Test
+    void ignoresVariantsTheRegistryDidNotAssign() {
+        snapshotStore.updateCanaryFlag(REMOTE, true, 100);
+        engine.onRecord(event("user-1", "stable"), "user-1");
+        engine.onRecord(canaryFailure("user-1"), "user-1");
+
+        snapshotStore.updateCanaryFlag(REMOTE, false, 100);
+        engine.onRecord(canaryFailure("user-1"), "user-1");
+
+        assertThat(engine.stats().rejectedSamples()).isEqualTo(2);
+    }
+
+    @Test
+    void capsSamplesFromOneUser() throws InterruptedException {
+        snapshotStore.updateCanaryFlag(REMOTE, true, 100);
+        for (int index = 0; index < 50; index++) {
+            engine.onRecord(canaryFailure("user-1"), "user-1");
+        }
+
+        Thread.sleep(100);
+        assertThat(engine.stats().rejectedSamples()).isEqualTo(45);
+        assertThat(snapshotStore.canaryFlag(REMOTE).enabled()).isTrue();
+    }
+
+    @Test
+    void rollsBackOnFailuresFromEnoughUsers() throws InterruptedException {
+        snapshotStore.updateCanaryFlag(REMOTE, true, 100);
+        for (int user = 0; user < 4; user++) {
+            for (int index = 0; index < 5; index++) {
+                engine.onRecord(canaryFailure("user-" + user), "user-" + user);
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (engine.stats().rollbacks() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(snapshotStore.canaryFlag(REMOTE).enabled()).isFalse();
+        assertThat(engine.stats().rollbacks()).isEqualTo(1);
+        assertThat(engine.stats().rejectedSamples()).isZero();
+    }
+
+    @Test
+    void countsSamplesRecordedRightAfterAFlagChangeAgainstTheNewCanary() throws InterruptedException {
+        snapshotStore.updateCanaryFlag(REMOTE, true, 100);
+        engine.onRecord(canaryFailure("user-0"), "user-0");
+        Thread.sleep(100);
+
+        // No evaluation runs between the flag change and these samples; they must not land in the old window.
+        snapshotStore.updateCanaryFlag(REMOTE, true, 100);
+        for (int user = 1; user <= 4; user++) {
+            for (int index = 0; index < 5; index++) {
+                engine.onRecord(canaryFailure("user-" + user), "user-" + user);
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (engine.stats().rollbacks() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(engine.stats().rollbacks()).isEqualTo(1);
+        assertThat(snapshotStore.canaryFlag(REMOTE).enabled()).isFalse();
+    }
+
+    private static TelemetryController.TelemetryRecord canaryFailure(String userId) {
+        return event(userId, "canary");
+    }
+
+    private static TelemetryController.TelemetryRecord event(String userId, String variant) {
+        boolean canary = "canary".equals(variant);
+        return new TelemetryController.TelemetryRecord(
+                "2026-01-01T00:00:00Z",
+                "correlation-1",
+                "request-1",
+                "session-" + userId,
+                userId,
+                canary ? TelemetryClassifier.LOAD_CANARY_FAILED : TelemetryClassifier.LOAD_SUCCESS,
+                REMOTE,
+                REMOTE,
+                canary ? "ERROR" : "INFO",
+                100L,
+                null,
+                Map.of("variant", variant)
+        );
+    }
+}
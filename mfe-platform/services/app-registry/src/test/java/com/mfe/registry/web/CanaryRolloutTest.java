@@ -0,0 +1,28 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+// The same vectors are pinned in apps/shell-host/src/rollout.test.ts; the shell buckets on the client.
+class CanaryRolloutTest {
+
+    @Test
+    void hashesLikeTheShell() {
+        assertThat(CanaryRollout.hashToPercentage("anonymous:remote-accounts")).isEqualTo(56);
+        assertThat(CanaryRollout.hashToPercentage("admin:remote-billing")).isEqualTo(95);
+        assertThat(CanaryRollout.hashToPercentage("user-1:remote-analytics")).isEqualTo(2);
+        assertThat(CanaryRollout.hashToPercentage("")).isEqualTo(0);
+        assertThat(CanaryRollout.hashToPercentage("ünïcode-user:remote-accounts")).isEqualTo(49);
+        assertThat(CanaryRollout.hashToPercentage("a-much-longer-user-identifier-that-overflows:remote-billing"))
+                .isEqualTo(81);
+    }
+
+    @Test
+    void clampsRolloutPercentage() {
+        assertThat(CanaryRollout.isInCanaryRollout("user-1", "remote-analytics", 3)).isTrue();
+        assertThat(CanaryRollout.isInCanaryRollout("user-1", "remote-analytics", 2)).isFalse();
+        assertThat(CanaryRollout.isInCanaryRollout("admin", "remote-billing", 150)).isTrue();
+        assertThat(CanaryRollout.isInCanaryRollout("user-1", "remote-analytics", -5)).isFalse();
+    }
+}
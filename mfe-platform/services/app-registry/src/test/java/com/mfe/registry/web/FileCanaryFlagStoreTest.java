@@ -0,0 +1,96 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileCanaryFlagStoreTest {
+
+    private static final String ACCOUNTS = "remote-accounts";
+    private static final String BILLING = "remote-billing";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void ignoresTornFinalJournalLineOnReload() throws IOException {
+        FileCanaryFlagStore store = open(100);
+        store.compareAndSet(ACCOUNTS, null, true, 10);
+        store.compareAndSet(ACCOUNTS, null, true, 20);
+        store.close();
+
+        appendToJournal("0badc0de {\"remoteId\":\"remote-accounts\",\"enabled\":false");
+
+        FileCanaryFlagStore reopened = open(100);
+        assertThat(reopened.get(ACCOUNTS)).isEqualTo(new RegistryController.CanaryFlag(ACCOUNTS, true, 20, 2));
+
+        reopened.compareAndSet(ACCOUNTS, 2L, true, 30);
+        reopened.close();
+        assertThat(open(100).get(ACCOUNTS)).isEqualTo(new RegistryController.CanaryFlag(ACCOUNTS, true, 30, 3));
+    }
+
+    @Test
+    void ignoresFinalJournalLineWithBadChecksum() throws IOException {
+        FileCanaryFlagStore store = open(100);
+        store.compareAndSet(ACCOUNTS, null, true, 10);
+        store.close();
+
+        appendToJournal("00000000 {\"remoteId\":\"remote-accounts\",\"enabled\":false,\"rolloutPercentage\":0,\"version\":2}\n");
+
+        assertThat(open(100).get(ACCOUNTS)).isEqualTo(new RegistryController.CanaryFlag(ACCOUNTS, true, 10, 1));
+    }
+
+    @Test
+    void reloadsTheSameStateAfterCompaction() throws IOException {
+        FileCanaryFlagStore store = open(2);
+        store.compareAndSet(ACCOUNTS, null, true, 10);
+        store.compareAndSet(BILLING, null, true, 50);
+        store.compareAndSet(ACCOUNTS, null, false, 0);
+        RegistryController.CanaryFlag accounts = store.get(ACCOUNTS);
+        RegistryController.CanaryFlag billing = store.get(BILLING);
+        store.close();
+
+        assertThat(directory.resolve("flags.json")).exists();
+        assertThat(Files.size(directory.resolve("flags.journal"))).isPositive();
+
+        FileCanaryFlagStore reopened = open(2);
+        assertThat(reopened.get(ACCOUNTS)).isEqualTo(accounts);
+        assertThat(reopened.get(BILLING)).isEqualTo(billing);
+        assertThat(Files.size(directory.resolve("flags.journal"))).isZero();
+    }
+
+    @Test
+    void rejectsCompareAndSetWithStaleVersion() throws IOException {
+        FileCanaryFlagStore store = open(100);
+        store.compareAndSet(ACCOUNTS, 0L, true, 10);
+
+        CanaryFlagStore.UpdateResult stale = store.compareAndSet(ACCOUNTS, 0L, false, 0);
+        assertThat(stale.applied()).isFalse();
+        assertThat(stale.flag()).isEqualTo(new RegistryController.CanaryFlag(ACCOUNTS, true, 10, 1));
+
+        CanaryFlagStore.UpdateResult current = store.compareAndSet(ACCOUNTS, 1L, true, 25);
+        assertThat(current.applied()).isTrue();
+        assertThat(current.flag().version()).isEqualTo(2);
+        store.close();
+
+        assertThat(open(100).get(ACCOUNTS)).isEqualTo(new RegistryController.CanaryFlag(ACCOUNTS, true, 25, 2));
+    }
+
+    private FileCanaryFlagStore open(int compactAfterEntries) throws IOException {
+        return new FileCanaryFlagStore(
+                new CanaryFlagStoreProperties(directory.toString(), compactAfterEntries),
+                RegistryFixtures.objectMapper(),
+                RegistryFixtures.eventLogger()
+        );
+    }
+
+    private void appendToJournal(String content) throws IOException {
+        Files.write(directory.resolve("flags.journal"), content.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,37 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class PreEncodedResponseTest {
+
+    @Test
+    void acceptsListedCoding() {
+        assertThat(PreEncodedResponse.acceptsEncoding("gzip, deflate, br", "gzip")).isTrue();
+        assertThat(PreEncodedResponse.acceptsEncoding("deflate, GZIP;q=0.5", "gzip")).isTrue();
+    }
+
+    @Test
+    void rejectsZeroQuality() {
+        assertThat(PreEncodedResponse.acceptsEncoding("gzip;q=0", "gzip")).isFalse();
+        assertThat(PreEncodedResponse.acceptsEncoding("br, gzip; q=0.000", "gzip")).isFalse();
+        assertThat(PreEncodedResponse.acceptsEncoding("gzip;q=0.01", "gzip")).isTrue();
+    }
+
+    @Test
+    void rejectsMissingOrSimilarCoding() {
+        assertThat(PreEncodedResponse.acceptsEncoding(null, "gzip")).isFalse();
+        assertThat(PreEncodedResponse.acceptsEncoding("identity", "gzip")).isFalse();
+        assertThat(PreEncodedResponse.acceptsEncoding("x-gzip", "gzip")).isFalse();
+    }
+
+    @Test
+    void matchesEtagTokens() {
+        assertThat(PreEncodedResponse.etagMatches("\"7\"", "\"7\"")).isTrue();
+        assertThat(PreEncodedResponse.etagMatches("\"3\", \"7\"", "\"7\"")).isTrue();
+        assertThat(PreEncodedResponse.etagMatches("*", "\"7\"")).isTrue();
+        assertThat(PreEncodedResponse.etagMatches("\"17\"", "\"7\"")).isFalse();
+        assertThat(PreEncodedResponse.etagMatches(null, "\"7\"")).isFalse();
+    }
+}
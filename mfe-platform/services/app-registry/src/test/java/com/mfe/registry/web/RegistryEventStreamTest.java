@@ -0,0 +1,36 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RegistryEventStreamTest {
+
+    private final RegistryEventStream stream = new RegistryEventStream(
+            RegistryFixtures.objectMapper(),
+            new RegistryStreamProperties(Duration.ofSeconds(15), Duration.ofSeconds(3), 1),
+            RegistryFixtures.snapshotStore(),
+            RegistryFixtures.backgroundThreads()
+    );
+
+    @AfterEach
+    void close() {
+        stream.close();
+    }
+
+    @Test
+    void failedSubscriptionGivesItsSlotBack() {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/registry/stream");
+            request.setAsyncSupported(false);
+
+            // At capacity 1, a leaked slot would turn the second attempt into a 503.
+            assertThatThrownBy(() -> stream.subscribe(request, new MockHttpServletResponse(), null))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.mfe.registry.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mfe.registry.BackgroundThreads;
+import com.mfe.registry.logging.StructuredEventLogger;
+import com.mfe.registry.logging.StructuredLoggingProperties;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.env.MockEnvironment;
+
+final class RegistryFixtures {
+
+    private RegistryFixtures() {
+    }
+
+    static BackgroundThreads backgroundThreads() {
+        return new BackgroundThreads(new MockEnvironment());
+    }
+
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    static StructuredEventLogger eventLogger() {
+        return new StructuredEventLogger(new StructuredLoggingProperties(
+                1024,
+                StructuredLoggingProperties.OverflowPolicy.DROP,
+                List.of()
+        ), backgroundThreads());
+    }
+
+    static RouteCatalog routeCatalog(ObjectMapper objectMapper) {
+        MockEnvironment environment = new MockEnvironment();
+        for (String remote : List.of("accounts", "billing", "analytics")) {
+            String url = "/remotes/remote-" + remote + "/assets/remoteEntry.js";
+            environment.setProperty("app.registry.remotes." + remote + "-stable-url", url);
+            environment.setProperty("app.registry.remotes." + remote + "-canary-url", url);
+        }
+        return new RouteCatalog(
+                new RouteCatalogProperties("classpath:registry-routes.json", Duration.ZERO),
+                new DefaultResourceLoader(),
+                environment,
+                objectMapper,
+                eventLogger(),
+                backgroundThreads()
+        );
+    }
+
+    static RegistrySnapshotStore snapshotStore() {
+        ObjectMapper objectMapper = objectMapper();
+        return new RegistrySnapshotStore(objectMapper, routeCatalog(objectMapper), new InMemoryCanaryFlagStore());
+    }
+}
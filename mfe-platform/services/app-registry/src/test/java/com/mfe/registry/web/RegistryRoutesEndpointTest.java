@@ -0,0 +1,139 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mfe.registry.auth.AdminAuthorizationService;
+import com.mfe.registry.auth.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.server.ResponseStatusException;
+
+class RegistryRoutesEndpointTest {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = RegistryFixtures.objectMapper();
+    private final JwtService jwtService = new JwtService("test-super-secret-signing-key-of-sufficient-length", 60, 16,
+            new SimpleMeterRegistry());
+    private Path routesFile;
+    private RouteCatalog routeCatalog;
+    private RegistryEventStream eventStream;
+    private RegistryController controller;
+
+    @BeforeEach
+    void start() throws IOException {
+        routesFile = directory.resolve("routes.json");
+        writeRoutes("/billing", "/billing/invoices");
+        routeCatalog = new RouteCatalog(
+                new RouteCatalogProperties(routesFile.toUri().toString(), Duration.ZERO),
+                new DefaultResourceLoader(),
+                new MockEnvironment(),
+                objectMapper,
+                RegistryFixtures.eventLogger(),
+                RegistryFixtures.backgroundThreads()
+        );
+        RegistrySnapshotStore snapshotStore = new RegistrySnapshotStore(objectMapper, routeCatalog, new InMemoryCanaryFlagStore());
+        eventStream = new RegistryEventStream(
+                objectMapper,
+                new RegistryStreamProperties(Duration.ofSeconds(15), Duration.ofSeconds(3), 10),
+                snapshotStore,
+                RegistryFixtures.backgroundThreads()
+        );
+        controller = new RegistryController(
+                new AdminAuthorizationService(jwtService),
+                snapshotStore,
+                new ResolvedManifestCache(snapshotStore, objectMapper),
+                eventStream,
+                routeCatalog,
+                new ApplicationAvailabilityBean(),
+                RegistryFixtures.eventLogger()
+        );
+    }
+
+    @AfterEach
+    void stop() {
+        eventStream.close();
+        routeCatalog.close();
+    }
+
+    @Test
+    void resolvesPathsToTheLongestMatchingRoute() {
+        assertThat(controller.resolveRoute("/billing/invoices/42").id()).isEqualTo("route-2");
+        assertThat(controller.resolveRoute("/billing/").id()).isEqualTo("route-1");
+        assertThat(controller.resolveRoute("/billing/settings?tab=1").id()).isEqualTo("route-1");
+
+        assertStatus(() -> controller.resolveRoute("/accounts"), HttpStatus.NOT_FOUND);
+        assertStatus(() -> controller.resolveRoute("billing"), HttpStatus.BAD_REQUEST);
+        assertStatus(() -> controller.resolveRoute(null), HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void reloadsEditedDefinitionsForAdmins() throws IOException {
+        writeRoutes("/billing", "/accounts");
+        RegistryController.RouteReloadResult result = controller.reloadRoutes(admin());
+
+        assertThat(result.changed()).isTrue();
+        assertThat(result.routes()).isEqualTo(2);
+        assertThat(controller.resolveRoute("/accounts/7").id()).isEqualTo("route-2");
+        assertThat(controller.resolveRoute("/billing/invoices").id()).isEqualTo("route-1");
+
+        RegistryController.RouteReloadResult unchanged = controller.reloadRoutes(admin());
+        assertThat(unchanged.changed()).isFalse();
+        assertThat(unchanged.registryVersion()).isEqualTo(result.registryVersion());
+    }
+
+    @Test
+    void keepsTheCurrentTableWhenTheEditIsInvalid() throws IOException {
+        writeRoutes("/billing", "/billing/");
+
+        assertStatus(() -> controller.reloadRoutes(admin()), HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(controller.resolveRoute("/billing/invoices").id()).isEqualTo("route-2");
+    }
+
+    @Test
+    void requiresAnAdminToReload() {
+        String user = "Bearer " + jwtService.issueToken("user-1", List.of("USER"));
+
+        assertStatus(() -> controller.reloadRoutes(user), HttpStatus.FORBIDDEN);
+        assertStatus(() -> controller.reloadRoutes("Bearer not-a-token"), HttpStatus.UNAUTHORIZED);
+    }
+
+    private String admin() {
+        return "Bearer " + jwtService.issueToken("admin", List.of("ADMIN"));
+    }
+
+    private void writeRoutes(String... paths) throws IOException {
+        StringBuilder routes = new StringBuilder();
+        for (int index = 0; index < paths.length; index++) {
+            String id = "route-" + (index + 1);
+            routes.append(index == 0 ? "" : ",").append("""
+                    {"id":"%s","title":"%s","path":"%s","requiredRoles":["USER"],
+                     "remote":{"scope":"scope_%d","module":"./App",
+                               "stable":{"url":"/remotes/%s/remoteEntry.js","version":"1"},
+                               "canary":{"url":"/remotes/%s/remoteEntry.js","version":"2"}}}
+                    """.formatted(id, id, paths[index], index, id, id));
+        }
+        Files.writeString(routesFile, "{\"platform\":\"mfe-platform\",\"shellPaths\":[\"/\"],\"routes\":[" + routes + "]}");
+    }
+
+    private static void assertStatus(Runnable call, HttpStatus status) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(status));
+    }
+}
@@ -0,0 +1,97 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ResolvedManifestCacheTest {
+
+    private static final String REMOTE = "remote-accounts";
+
+    private final RegistrySnapshotStore snapshotStore = RegistryFixtures.snapshotStore();
+    private final ResolvedManifestCache cache = new ResolvedManifestCache(snapshotStore, RegistryFixtures.objectMapper());
+
+    @Test
+    void sharesOneBodyBetweenUsersWithTheSameBuckets() {
+        assertThat(cache.resolve("user-1")).isSameAs(cache.resolve("user-2"));
+    }
+
+    @Test
+    void keysOnTheBucketVectorOfEachUser() {
+        snapshotStore.updateCanaryFlag(REMOTE, true, 50);
+        String canaryUser = userWhere(true);
+        String stableUser = userWhere(false);
+
+        PreEncodedResponse canary = cache.resolve(canaryUser);
+        PreEncodedResponse stable = cache.resolve(stableUser);
+
+        assertThat(canary).isNotSameAs(stable);
+        assertThat(canary.etag()).isNotEqualTo(stable.etag());
+        assertThat(body(canary)).contains("\"variant\":\"canary\"");
+        assertThat(body(stable)).doesNotContain("\"variant\":\"canary\"");
+        assertThat(cache.resolve(canaryUser)).isSameAs(canary);
+    }
+
+    @Test
+    void dropsCachedBodiesWhenTheSnapshotChanges() {
+        PreEncodedResponse before = cache.resolve("user-1");
+
+        snapshotStore.updateCanaryFlag(REMOTE, true, 100);
+        PreEncodedResponse after = cache.resolve("user-1");
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(body(after)).contains("\"variant\":\"canary\"");
+    }
+
+    @Test
+    void doesNotCacheAManifestBuiltFromASnapshotOlderThanTheGeneration() {
+        PinnableSnapshotStore store = new PinnableSnapshotStore();
+        ResolvedManifestCache cache = new ResolvedManifestCache(store, RegistryFixtures.objectMapper());
+        RegistrySnapshot before = store.current();
+        store.updateCanaryFlag(REMOTE, true, 50);
+        cache.resolve(userWhere(true));
+
+        // A request that read the snapshot before the update resolves after another request moved the generation on.
+        store.pinned = before;
+        PreEncodedResponse stale = cache.resolve(userWhere(false));
+        store.pinned = null;
+
+        assertThat(stale.etag()).startsWith("\"v" + before.version() + "-");
+        assertThat(cache.resolve(userWhere(false)).etag()).startsWith("\"v" + store.current().version() + "-");
+    }
+
+    private static String userWhere(boolean canary) {
+        return IntStream.range(0, 1_000)
+                .mapToObj(index -> "user-" + index)
+                .filter(user -> CanaryRollout.isInCanaryRollout(user, REMOTE, 50) == canary)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static String body(PreEncodedResponse response) {
+        return new String(response.json(), StandardCharsets.UTF_8);
+    }
+
+    private static final class PinnableSnapshotStore extends RegistrySnapshotStore {
+
+        private volatile RegistrySnapshot pinned;
+
+        PinnableSnapshotStore() {
+            this(RegistryFixtures.objectMapper());
+        }
+
+        private PinnableSnapshotStore(ObjectMapper objectMapper) {
+            super(objectMapper, RegistryFixtures.routeCatalog(objectMapper), new InMemoryCanaryFlagStore());
+        }
+
+        @Override
+        public RegistrySnapshot current() {
+            RegistrySnapshot snapshot = pinned;
+            return snapshot != null ? snapshot : super.current();
+        }
+    }
+}
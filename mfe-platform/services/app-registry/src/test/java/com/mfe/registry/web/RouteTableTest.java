@@ -0,0 +1,77 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RouteTableTest {
+
+    private final RouteTable table = RouteTable.of(definitions(
+            route("billing", "/billing"),
+            route("invoices", "/billing/invoices"),
+            route("accounts", "/accounts/")
+    ));
+
+    @Test
+    void prefersTheLongestMatchingRoute() {
+        assertThat(idOf("/billing")).isEqualTo("billing");
+        assertThat(idOf("/billing/invoices")).isEqualTo("invoices");
+        assertThat(idOf("/billing/invoices/42")).isEqualTo("invoices");
+        assertThat(idOf("/billing/settings")).isEqualTo("billing");
+    }
+
+    @Test
+    void matchesWholeSegmentsOnly() {
+        assertThat(table.resolve("/billingx")).isEqualTo(-1);
+        assertThat(table.resolve("/billing-invoices")).isEqualTo(-1);
+        assertThat(table.resolve("/unknown/billing")).isEqualTo(-1);
+        assertThat(table.resolve("/")).isEqualTo(-1);
+    }
+
+    @Test
+    void ignoresTrailingSlashesQueriesAndFragments() {
+        assertThat(idOf("/billing/")).isEqualTo("billing");
+        assertThat(idOf("/accounts")).isEqualTo("accounts");
+        assertThat(idOf("/accounts/")).isEqualTo("accounts");
+        assertThat(idOf("/billing?tab=/invoices")).isEqualTo("billing");
+        assertThat(idOf("/billing/invoices#top")).isEqualTo("invoices");
+    }
+
+    @Test
+    void fallsBackToShellPathsForTheSpa() {
+        assertThat(table.isSpaPath("/")).isTrue();
+        assertThat(table.isSpaPath("/admin/telemetry/")).isTrue();
+        assertThat(table.isSpaPath("/billing/invoices/42")).isTrue();
+        assertThat(table.isSpaPath("/admin/telemetry/extra")).isFalse();
+        assertThat(table.isSpaPath("/favicon.ico")).isFalse();
+    }
+
+    @Test
+    void rejectsPathsThatCollideOrShadowTheServer() {
+        assertThatThrownBy(() -> RouteTable.of(definitions(route("a", "/billing"), route("b", "/billing/"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate route path");
+        assertThatThrownBy(() -> RouteTable.of(definitions(route("a", "/api/billing"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RouteTable.of(definitions(route("a", "/"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String idOf(String path) {
+        int index = table.resolve(path);
+        assertThat(index).as("route for %s", path).isNotNegative();
+        return table.routes().get(index).id();
+    }
+
+    private static RouteDefinitions definitions(RouteDefinitions.Route... routes) {
+        return new RouteDefinitions("mfe-platform", List.of(routes), List.of("/", "/admin/telemetry"));
+    }
+
+    private static RouteDefinitions.Route route(String id, String path) {
+        RegistryController.RemoteVersion url = new RegistryController.RemoteVersion("/remotes/" + id + "/remoteEntry.js", "1.0.0");
+        return new RouteDefinitions.Route(id, id, path, List.of("USER"),
+                new RouteDefinitions.Remote("scope_" + id, "./App", url, url));
+    }
+}
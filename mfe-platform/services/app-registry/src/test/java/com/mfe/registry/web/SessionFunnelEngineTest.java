@@ -0,0 +1,108 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SessionFunnelEngineTest {
+
+    private static final String REMOTE = "remote-accounts";
+
+    private SessionFunnelEngine engine = newEngine(Duration.ofMinutes(1));
+
+    @AfterEach
+    void close() {
+        engine.close();
+    }
+
+    @Test
+    void countsLoadsAndCanaryFallbacksPerVariant() {
+        engine.onRecord(event("session-1", TelemetryClassifier.LOAD_ATTEMPT, "stable", null));
+        engine.onRecord(event("session-1", TelemetryClassifier.LOAD_SUCCESS, "stable", 120L));
+        engine.onRecord(event("session-2", TelemetryClassifier.LOAD_ATTEMPT, "canary", null));
+        engine.onRecord(event("session-2", TelemetryClassifier.LOAD_CANARY_FAILED, "canary", 300L));
+        engine.onRecord(event("session-2", TelemetryClassifier.LOAD_FALLBACK_SUCCESS, "canary", 450L));
+
+        SessionFunnelEngine.FunnelSummary canary = summary("canary");
+        SessionFunnelEngine.FunnelSummary stable = summary("stable");
+        assertThat(stable.requested()).isEqualTo(1);
+        assertThat(stable.loaded()).isEqualTo(1);
+        assertThat(stable.inProgress()).isZero();
+        assertThat(canary.requested()).isEqualTo(1);
+        assertThat(canary.loaded()).isZero();
+        assertThat(canary.fallback()).isEqualTo(1);
+        assertThat(engine.stats().unmatchedEvents()).isZero();
+    }
+
+    @Test
+    void countsOutcomesWithoutAnAttemptAsUnmatched() {
+        engine.onRecord(event("session-1", TelemetryClassifier.LOAD_SUCCESS, "stable", 120L));
+        engine.onRecord(event("session-2", TelemetryClassifier.LOAD_ATTEMPT, "stable", null));
+        engine.onRecord(event("session-2", TelemetryClassifier.LOAD_SUCCESS, "stable", 120L));
+        engine.onRecord(event("session-2", TelemetryClassifier.LOAD_SUCCESS, "stable", 120L));
+
+        assertThat(engine.stats().unmatchedEvents()).isEqualTo(2);
+        assertThat(summary("stable").loaded()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsSessionsBeyondMaxSessions() {
+        engine.onRecord(event("session-1", TelemetryClassifier.LOAD_ATTEMPT, "stable", null));
+        engine.onRecord(event("session-2", TelemetryClassifier.LOAD_ATTEMPT, "stable", null));
+        engine.onRecord(event("session-3", TelemetryClassifier.LOAD_ATTEMPT, "stable", null));
+
+        assertThat(engine.stats().activeSessions()).isEqualTo(2);
+        assertThat(engine.stats().rejectedSessions()).isEqualTo(1);
+    }
+
+    @Test
+    void expiresIdleSessionsAndCountsOpenFunnelsAsAbandoned() throws InterruptedException {
+        engine.close();
+        engine = newEngine(Duration.ofMillis(50));
+        engine.onRecord(event("session-1", TelemetryClassifier.LOAD_ATTEMPT, "stable", null));
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (engine.stats().expiredSessions() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(engine.stats().expiredSessions()).isEqualTo(1);
+        assertThat(engine.stats().activeSessions()).isZero();
+        assertThat(summary("stable").abandoned()).isEqualTo(1);
+    }
+
+    private static SessionFunnelEngine newEngine(Duration idleTimeout) {
+        return new SessionFunnelEngine(
+                new SessionFunnelProperties(true, idleTimeout, Duration.ofMillis(10), 2, 2),
+                RegistryFixtures.snapshotStore(),
+                RegistryFixtures.eventLogger(),
+                RegistryFixtures.backgroundThreads()
+        );
+    }
+
+    private SessionFunnelEngine.FunnelSummary summary(String variant) {
+        return engine.report(REMOTE).funnels().stream()
+                .filter(summary -> summary.variant().equals(variant))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static TelemetryController.TelemetryRecord event(String sessionId, String eventType, String variant, Long durationMs) {
+        return new TelemetryController.TelemetryRecord(
+                "2026-01-01T00:00:00Z",
+                "correlation-1",
+                "request-1",
+                sessionId,
+                "user-1",
+                eventType,
+                REMOTE,
+                REMOTE,
+                "INFO",
+                durationMs,
+                null,
+                Map.of("variant", variant)
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+class StaticAssetCatalogTest {
+
+    private static final String SHORT_LIVED = "max-age=30, must-revalidate, public";
+    private static final String IMMUTABLE = "max-age=31536000, public, immutable";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void onlyMarksBundlerHashedAssetsImmutable() throws IOException {
+        write("index.html", "<html></html>");
+        write("assets/index-BRrI07Qo.js", "console.log(1)");
+        write("assets/__federation_shared_@mui/material-DLp9Ue-e.js", "console.log(2)");
+        write("remotes/remote-billing/assets/index-_JdQDv7i.css", "body{}");
+        write("remotes/remote-billing/remoteEntry.js", "console.log(3)");
+        write("assets/my-features.js", "console.log(4)");
+        write("assets/react-dom-client.js", "console.log(5)");
+        write("vendor/index-BRrI07Qo.js", "console.log(6)");
+
+        StaticAssetCatalog catalog = open();
+
+        assertThat(catalog.find("/assets/index-BRrI07Qo.js").cacheControl()).isEqualTo(IMMUTABLE);
+        assertThat(catalog.find("/assets/__federation_shared_@mui/material-DLp9Ue-e.js").cacheControl()).isEqualTo(IMMUTABLE);
+        assertThat(catalog.find("/remotes/remote-billing/assets/index-_JdQDv7i.css").cacheControl()).isEqualTo(IMMUTABLE);
+
+        assertThat(catalog.find("/index.html").cacheControl()).isEqualTo(SHORT_LIVED);
+        assertThat(catalog.find("/remotes/remote-billing/remoteEntry.js").cacheControl()).isEqualTo(SHORT_LIVED);
+        assertThat(catalog.find("/assets/my-features.js").cacheControl()).isEqualTo(SHORT_LIVED);
+        assertThat(catalog.find("/assets/react-dom-client.js").cacheControl()).isEqualTo(SHORT_LIVED);
+        assertThat(catalog.find("/vendor/index-BRrI07Qo.js").cacheControl()).isEqualTo(SHORT_LIVED);
+    }
+
+    @Test
+    void givesEachEncodingItsOwnStrongEtag() throws IOException {
+        String script = "export const value = 1;\n".repeat(200);
+        write("assets/index-BRrI07Qo.js", script);
+        write("remotes/remote-billing/assets/index-BRrI07Qo.js", script);
+
+        StaticAssetCatalog catalog = open();
+        StaticAssetCatalog.StaticAsset asset = catalog.find("/assets/index-BRrI07Qo.js");
+
+        assertThat(asset.gzip()).isNotNull();
+        assertThat(asset.identity().etag()).startsWith("\"").doesNotStartWith("W/");
+        assertThat(asset.gzip().etag()).startsWith("\"").endsWith("-gz\"");
+        assertThat(asset.gzip().etag()).isNotEqualTo(asset.identity().etag());
+        assertThat(catalog.find("/remotes/remote-billing/assets/index-BRrI07Qo.js").gzip().etag())
+                .isEqualTo(asset.gzip().etag());
+    }
+
+    private StaticAssetCatalog open() throws IOException {
+        return new StaticAssetCatalog(
+                new StaticAssetProperties(directory.toUri().toString(), null, 1024, 49152, Duration.ofSeconds(30)),
+                new DefaultResourceLoader(),
+                RegistryFixtures.eventLogger()
+        );
+    }
+
+    private void write(String path, String content) throws IOException {
+        Path file = directory.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
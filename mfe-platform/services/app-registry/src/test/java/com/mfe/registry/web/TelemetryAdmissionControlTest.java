@@ -0,0 +1,85 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.server.ResponseStatusException;
+
+class TelemetryAdmissionControlTest {
+
+    private final TelemetryAdmissionControl control = new TelemetryAdmissionControl(
+            new TelemetryAdmissionProperties(true, 2, 1, 3, 1, 2, 100, Duration.ofMinutes(1)),
+            RegistryFixtures.snapshotStore(),
+            RegistryFixtures.backgroundThreads()
+    );
+
+    @AfterEach
+    void close() {
+        control.close();
+    }
+
+    @Test
+    void shedsBeyondMaxConcurrentUntilAPermitIsReleased() {
+        control.enter("session-1", new MockHttpServletResponse());
+        control.enter("session-2", new MockHttpServletResponse());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> control.enter("session-3", response))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+        control.exit();
+        control.enter("session-4", new MockHttpServletResponse());
+        assertThat(control.stats().inFlight()).isEqualTo(2);
+        assertThat(control.stats().shedConcurrency()).isEqualTo(1);
+    }
+
+    @Test
+    void limitsEachSessionToItsBurst() {
+        for (int index = 0; index < 3; index++) {
+            control.enter("session-1", new MockHttpServletResponse());
+            control.exit();
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> control.enter("session-1", response)).isInstanceOf(ResponseStatusException.class);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        control.enter("session-2", new MockHttpServletResponse());
+        assertThat(control.stats().shedSession()).isEqualTo(1);
+    }
+
+    @Test
+    void limitsEachRemoteToItsBurst() {
+        assertThat(control.tryAcquireRemote("remote-accounts")).isZero();
+        assertThat(control.tryAcquireRemote("remote-accounts")).isZero();
+        assertThat(control.tryAcquireRemote("remote-accounts")).isPositive();
+        assertThat(control.tryAcquireRemote("remote-billing")).isZero();
+        assertThat(control.stats().shedRemote()).isEqualTo(1);
+    }
+
+    @Test
+    void sharesOneBucketPerRouteWhetherKeyedByIdOrScope() {
+        assertThat(control.tryAcquireRemote("remote-accounts")).isZero();
+        assertThat(control.tryAcquireRemote("remote_accounts")).isZero();
+        assertThat(control.tryAcquireRemote("remote_accounts")).isPositive();
+        assertThat(control.stats().trackedRemotes()).isEqualTo(1);
+    }
+
+    @Test
+    void putsUnknownAndMissingIdsInOneBucket() {
+        for (int index = 0; index < 100; index++) {
+            control.tryAcquireRemote("made-up-" + index);
+        }
+        assertThat(control.tryAcquireRemote(null)).isPositive();
+        assertThat(control.stats().shedRemote()).isEqualTo(99);
+        assertThat(control.stats().trackedRemotes()).isEqualTo(1);
+        assertThat(control.tryAcquireRemote("remote-billing")).isZero();
+    }
+}
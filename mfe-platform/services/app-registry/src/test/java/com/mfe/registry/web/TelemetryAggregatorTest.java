@@ -0,0 +1,59 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TelemetryAggregatorTest {
+
+    private final TelemetryAggregator aggregator = new TelemetryAggregator(RegistryFixtures.snapshotStore(), 256);
+
+    @Test
+    void keysRegisteredRemotesByRouteId() {
+        aggregator.onRecord(event("remote_billing", null, "REMOTE_LOAD_SUCCESS", 40L));
+        aggregator.onRecord(event(null, "remote-billing", "REMOTE_LOAD_SUCCESS", 60L));
+
+        List<TelemetryAggregator.LatencySummary> summaries = aggregator.summaries(TelemetryAggregator.Window.ONE_MINUTE, "remote_billing");
+        assertThat(summaries).singleElement().satisfies(summary -> {
+            assertThat(summary.remoteId()).isEqualTo("remote-billing");
+            assertThat(summary.eventType()).isEqualTo("REMOTE_LOAD_SUCCESS");
+            assertThat(summary.count()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void foldsUnknownRemotesAndEventTypesIntoOther() {
+        for (int index = 0; index < 1_000; index++) {
+            aggregator.onRecord(event("junk-" + index, null, "JUNK_" + index, 5L));
+        }
+        aggregator.onRecord(event("remote_accounts", null, "REMOTE_LOAD_FAILURE", 5L));
+
+        assertThat(aggregator.droppedKeys()).isZero();
+        assertThat(aggregator.summaries(TelemetryAggregator.Window.ONE_MINUTE, null))
+                .extracting(TelemetryAggregator.LatencySummary::remoteId, TelemetryAggregator.LatencySummary::eventType)
+                .containsExactly(
+                        tuple("OTHER", "OTHER"),
+                        tuple("remote-accounts", "REMOTE_LOAD_FAILURE")
+                );
+    }
+
+    private static TelemetryController.TelemetryRecord event(String remoteId, String routeId, String eventType, Long durationMs) {
+        return new TelemetryController.TelemetryRecord(
+                "2026-01-01T00:00:00Z",
+                "correlation",
+                "request",
+                "session",
+                "user",
+                eventType,
+                remoteId,
+                routeId,
+                "INFO",
+                durationMs,
+                null,
+                Map.of("variant", "stable")
+        );
+    }
+}
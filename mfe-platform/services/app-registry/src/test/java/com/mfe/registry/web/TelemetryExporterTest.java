@@ -0,0 +1,163 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mfe.registry.BackgroundThreads;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+
+class TelemetryExporterTest {
+
+    private final ObjectMapper objectMapper = RegistryFixtures.objectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void keepsTheOpenFileAsPartUntilItIsCompleted() throws Exception {
+        TelemetryExporter exporter = open(16, Long.MAX_VALUE, RegistryFixtures.backgroundThreads());
+        exporter.onRecord(event("first"));
+        exporter.onRecord(event("second"));
+
+        await(() -> exporter.stats().currentFileBytes() > 0);
+        String name = exporter.stats().currentFile();
+        assertThat(files(".part")).containsExactly(name + ".part");
+        assertThat(files(".gz")).isEmpty();
+
+        exporter.close();
+        assertThat(files(".part")).isEmpty();
+        assertThat(files(".gz")).containsExactly(name);
+        assertThat(readBack(name)).containsExactly(event("first"), event("second"));
+        assertThat(exporter.stats().files()).isEqualTo(1);
+    }
+
+    @Test
+    void rotatesOnceAFileReachesMaxBytes() throws Exception {
+        TelemetryExporter exporter = open(16, 1, RegistryFixtures.backgroundThreads());
+        exporter.onRecord(event("first"));
+        await(() -> exporter.stats().files() == 1);
+        // File names carry a millisecond timestamp; keep the second file from sharing it.
+        Thread.sleep(5);
+        exporter.onRecord(event("second"));
+        await(() -> exporter.stats().files() == 2);
+        exporter.close();
+
+        List<String> completed = files(".gz");
+        assertThat(completed).hasSize(2);
+        assertThat(files(".part")).isEmpty();
+        assertThat(readBack(completed.get(0))).containsExactly(event("first"));
+        assertThat(readBack(completed.get(1))).containsExactly(event("second"));
+        assertThat(exporter.stats().exported()).isEqualTo(2);
+    }
+
+    @Test
+    void countsRecordsDroppedWhileTheQueueIsFull() throws Exception {
+        CountDownLatch writerReleased = new CountDownLatch(1);
+        BackgroundThreads heldWriter = new BackgroundThreads(new MockEnvironment()) {
+            @Override
+            public Thread start(String name, Runnable task) {
+                return super.start(name, () -> {
+                    try {
+                        writerReleased.await();
+                    } catch (InterruptedException ex) {
+                        return;
+                    }
+                    task.run();
+                });
+            }
+        };
+        TelemetryExporter exporter = open(2, Long.MAX_VALUE, heldWriter);
+        for (int index = 0; index < 5; index++) {
+            exporter.onRecord(event("event-" + index));
+        }
+
+        assertThat(exporter.stats().pending()).isEqualTo(2);
+        assertThat(exporter.stats().dropped()).isEqualTo(3);
+        assertThat(exporter.stats().blocked()).isZero();
+
+        writerReleased.countDown();
+        exporter.close();
+        assertThat(readBack(files(".gz").get(0))).containsExactly(event("event-0"), event("event-1"));
+        assertThat(exporter.stats().exported()).isEqualTo(2);
+    }
+
+    private TelemetryExporter open(int queueCapacity, long maxFileBytes, BackgroundThreads backgroundThreads) throws IOException {
+        return new TelemetryExporter(
+                new TelemetryExportProperties(
+                        true,
+                        directory.toString(),
+                        queueCapacity,
+                        TelemetryExportProperties.OverflowPolicy.DROP,
+                        Duration.ofMillis(50),
+                        1,
+                        Duration.ofMillis(10),
+                        maxFileBytes,
+                        Duration.ofMinutes(15)
+                ),
+                objectMapper,
+                RegistryFixtures.eventLogger(),
+                backgroundThreads
+        );
+    }
+
+    private List<String> files(String suffix) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(suffix))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private List<TelemetryController.TelemetryRecord> readBack(String name) throws IOException {
+        List<TelemetryController.TelemetryRecord> records = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(directory.resolve(name))), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                records.add(objectMapper.readValue(line, TelemetryController.TelemetryRecord.class));
+            }
+        }
+        return records;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static TelemetryController.TelemetryRecord event(String message) {
+        return new TelemetryController.TelemetryRecord(
+                "2026-01-01T00:00:00Z",
+                "correlation-" + message,
+                "request-" + message,
+                "session-1",
+                "user-1",
+                TelemetryClassifier.LOAD_SUCCESS,
+                "remote-accounts",
+                "remote-accounts",
+                "INFO",
+                10L,
+                message,
+                null
+        );
+    }
+}
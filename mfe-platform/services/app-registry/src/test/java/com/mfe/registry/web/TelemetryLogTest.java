@@ -0,0 +1,163 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TelemetryLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysAppendedRecordsOnRestart() throws Exception {
+        TelemetryLog log = open(new TelemetryStore(16));
+        for (int index = 0; index < 5; index++) {
+            log.onRecord(TelemetryStoreTest.record("event-" + index));
+        }
+        log.close();
+
+        TelemetryStore restored = new TelemetryStore(16);
+        TelemetryLog reopened = open(restored);
+        reopened.close();
+
+        assertThat(messages(restored)).containsExactly("event-4", "event-3", "event-2", "event-1", "event-0");
+        assertThat(reopened.stats().recovered()).isEqualTo(5);
+        assertThat(reopened.stats().nextOffset()).isEqualTo(5);
+    }
+
+    @Test
+    void truncatesTornTailAndKeepsAppending() throws Exception {
+        TelemetryRecordCodec codec = new TelemetryRecordCodec(RegistryFixtures.objectMapper());
+        TelemetryLog log = open(new TelemetryStore(16));
+        log.onRecord(TelemetryStoreTest.record("first"));
+        log.onRecord(TelemetryStoreTest.record("second"));
+        log.close();
+
+        Path segment = onlySegment();
+        long validBytes = Files.size(segment);
+        byte[] frame = codec.encodeFrame(TelemetryStoreTest.record("torn"));
+        Files.write(segment, Arrays.copyOf(frame, frame.length / 2), StandardOpenOption.APPEND);
+
+        TelemetryStore restored = new TelemetryStore(16);
+        TelemetryLog reopened = open(restored);
+        assertThat(Files.size(segment)).isEqualTo(validBytes);
+        assertThat(messages(restored)).containsExactly("second", "first");
+
+        reopened.onRecord(TelemetryStoreTest.record("third"));
+        reopened.close();
+
+        TelemetryStore again = new TelemetryStore(16);
+        open(again).close();
+        assertThat(messages(again)).containsExactly("third", "second", "first");
+    }
+
+    @Test
+    void dropsRecordsAboveFrameLimitInsteadOfWritingThem() throws Exception {
+        TelemetryLog log = open(new TelemetryStore(16));
+        log.onRecord(TelemetryStoreTest.record("x".repeat(TelemetryRecordCodec.MAX_PAYLOAD_BYTES)));
+        log.onRecord(TelemetryStoreTest.record("kept"));
+        log.close();
+
+        assertThat(log.stats().dropped()).isEqualTo(1);
+        assertThat(log.stats().appended()).isEqualTo(1);
+
+        TelemetryStore restored = new TelemetryStore(16);
+        open(restored).close();
+        assertThat(messages(restored)).containsExactly("kept");
+    }
+
+    @Test
+    void cutsBackAFailedPartialWriteSoLaterRecordsSurviveRecovery() throws Exception {
+        FailingTelemetryLog log = new FailingTelemetryLog(properties(), new TelemetryStore(16));
+        log.onRecord(TelemetryStoreTest.record("first"));
+        awaitStats(log, stats -> stats.appended() == 1);
+
+        log.failNextWrite = true;
+        log.onRecord(TelemetryStoreTest.record("torn"));
+        awaitStats(log, stats -> stats.dropped() == 1);
+
+        log.onRecord(TelemetryStoreTest.record("after"));
+        log.close();
+        assertThat(log.stats().appended()).isEqualTo(2);
+
+        TelemetryStore restored = new TelemetryStore(16);
+        TelemetryLog reopened = open(restored);
+        reopened.close();
+        assertThat(messages(restored)).containsExactly("after", "first");
+        assertThat(reopened.stats().nextOffset()).isEqualTo(2);
+    }
+
+    private TelemetryLog open(TelemetryStore store) throws IOException {
+        return new TelemetryLog(properties(), RegistryFixtures.objectMapper(), store, RegistryFixtures.eventLogger(),
+                RegistryFixtures.backgroundThreads());
+    }
+
+    private TelemetryLogProperties properties() {
+        return new TelemetryLogProperties(
+                true,
+                directory.toString(),
+                1024 * 1024,
+                16 * 1024 * 1024,
+                Duration.ofDays(1),
+                Duration.ofMillis(10),
+                64
+        );
+    }
+
+    private static void awaitStats(TelemetryLog log, Predicate<TelemetryLog.TelemetryLogStats> condition)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.test(log.stats()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.test(log.stats())).isTrue();
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = files.toList();
+            assertThat(segments).hasSize(1);
+            return segments.get(0);
+        }
+    }
+
+    private static List<String> messages(TelemetryStore store) {
+        return store.list().stream().map(TelemetryController.TelemetryRecord::message).toList();
+    }
+
+    // Writes half of the first frame of the failing batch before reporting the error, like a full disk would.
+    private static final class FailingTelemetryLog extends TelemetryLog {
+
+        private volatile boolean failNextWrite;
+
+        FailingTelemetryLog(TelemetryLogProperties properties, TelemetryStore store) throws IOException {
+            super(properties, RegistryFixtures.objectMapper(), store, RegistryFixtures.eventLogger(),
+                    RegistryFixtures.backgroundThreads());
+        }
+
+        @Override
+        long write(FileChannel channel, ByteBuffer[] buffers) throws IOException {
+            if (!failNextWrite) {
+                return super.write(channel, buffers);
+            }
+            failNextWrite = false;
+            ByteBuffer half = buffers[0].duplicate();
+            half.limit(half.position() + half.remaining() / 2);
+            channel.write(half);
+            throw new IOException("No space left on device");
+        }
+    }
+}
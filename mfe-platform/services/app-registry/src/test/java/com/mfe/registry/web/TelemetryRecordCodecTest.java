@@ -0,0 +1,63 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TelemetryRecordCodecTest {
+
+    private final TelemetryRecordCodec codec = new TelemetryRecordCodec(RegistryFixtures.objectMapper());
+
+    @Test
+    void roundTripsRecordThroughFrame() {
+        TelemetryController.TelemetryRecord record = new TelemetryController.TelemetryRecord(
+                "2026-01-01T00:00:00Z",
+                "correlation-1",
+                null,
+                "session-1",
+                "ünïcode-user",
+                "REMOTE_LOAD_FAILURE",
+                "remote-billing",
+                "remote-billing",
+                "ERROR",
+                -42L,
+                "failed",
+                Map.of("attempt", 2)
+        );
+        ByteBuffer frame = ByteBuffer.wrap(codec.encodeFrame(record));
+
+        int payloadLength = TelemetryRecordCodec.validFrameLength(frame);
+
+        assertThat(payloadLength).isEqualTo(frame.capacity() - TelemetryRecordCodec.HEADER_BYTES);
+        assertThat(codec.decodePayload(frame.slice(TelemetryRecordCodec.HEADER_BYTES, payloadLength))).isEqualTo(record);
+    }
+
+    @Test
+    void rejectsCorruptAndTornFrames() {
+        byte[] frame = codec.encodeFrame(TelemetryStoreTest.record("event"));
+
+        byte[] corrupt = frame.clone();
+        corrupt[corrupt.length - 1] ^= 0x01;
+        assertThat(TelemetryRecordCodec.validFrameLength(ByteBuffer.wrap(corrupt))).isEqualTo(-1);
+        assertThat(TelemetryRecordCodec.validFrameLength(ByteBuffer.wrap(frame, 0, frame.length - 1))).isEqualTo(-1);
+        assertThat(TelemetryRecordCodec.validFrameLength(ByteBuffer.wrap(frame, 0, 3))).isEqualTo(-1);
+    }
+
+    @Test
+    void refusesPayloadsAboveRecoveryLimit() {
+        String fits = "x".repeat(TelemetryRecordCodec.MAX_PAYLOAD_BYTES - 1024);
+        String tooLarge = "x".repeat(TelemetryRecordCodec.MAX_PAYLOAD_BYTES);
+
+        byte[] frame = codec.encodeFrame(withMessage(fits));
+
+        assertThat(TelemetryRecordCodec.validFrameLength(ByteBuffer.wrap(frame))).isPositive();
+        assertThat(codec.encodeFrame(withMessage(tooLarge))).isNull();
+    }
+
+    private static TelemetryController.TelemetryRecord withMessage(String message) {
+        return new TelemetryController.TelemetryRecord(
+                null, null, null, null, null, "REMOTE_LOAD_SUCCESS", null, null, "INFO", null, message, null);
+    }
+}
@@ -0,0 +1,92 @@
+package com.mfe.registry.web;
+
+import static com.mfe.registry.web.TelemetryStoreTest.record;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TelemetryStoreQueryTest {
+
+    @Test
+    void filtersOnIndexedFieldsNewestFirst() {
+        TelemetryStore store = new TelemetryStore(16);
+        store.add(record("a", "remote-accounts", "session-1", "REMOTE_LOAD_SUCCESS", "INFO"));
+        store.add(record("b", "remote-billing", "session-1", "REMOTE_LOAD_FAILURE", "ERROR"));
+        store.add(record("c", "remote-accounts", "session-2", "REMOTE_LOAD_FAILURE", "ERROR"));
+        store.add(record("d", "remote-accounts", "session-1", "REMOTE_LOAD_SUCCESS", "INFO"));
+
+        assertThat(messages(store.query(query("remote-accounts", null, null, null, 10)))).containsExactly("d", "c", "a");
+        assertThat(messages(store.query(query("remote-accounts", "session-1", null, null, 10)))).containsExactly("d", "a");
+        assertThat(messages(store.query(query(null, null, null, "ERROR", 10)))).containsExactly("c", "b");
+        assertThat(messages(store.query(query("remote-unknown", null, null, null, 10)))).isEmpty();
+    }
+
+    @Test
+    void pagesWithCursor() {
+        TelemetryStore store = new TelemetryStore(16);
+        for (int index = 0; index < 5; index++) {
+            store.add(record("event-" + index));
+        }
+
+        TelemetryStore.TelemetryPage first = store.query(query("remote-accounts", null, null, null, 2));
+        assertThat(messages(first)).containsExactly("event-4", "event-3");
+        assertThat(first.nextCursor()).isEqualTo(3L);
+
+        TelemetryStore.TelemetryPage second = store.query(query("remote-accounts", null, first.nextCursor(), null, 2));
+        assertThat(messages(second)).containsExactly("event-2", "event-1");
+
+        TelemetryStore.TelemetryPage last = store.query(query("remote-accounts", null, second.nextCursor(), null, 2));
+        assertThat(messages(last)).containsExactly("event-0");
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    void indexesEventsAddedBetweenQueries() {
+        TelemetryStore store = new TelemetryStore(16);
+        store.add(record("before"));
+        assertThat(messages(store.query(query("remote-accounts", null, null, null, 10)))).containsExactly("before");
+
+        store.add(record("after"));
+        assertThat(messages(store.query(query("remote-accounts", null, null, null, 10)))).containsExactly("after", "before");
+    }
+
+    @Test
+    void neverReturnsOverwrittenEventsAfterWrapAround() {
+        TelemetryStore store = new TelemetryStore(4);
+        store.add(record("old-1", "remote-billing", "session-1", "REMOTE_LOAD_FAILURE", "ERROR"));
+        store.add(record("old-2", "remote-billing", "session-1", "REMOTE_LOAD_FAILURE", "ERROR"));
+        assertThat(messages(store.query(query("remote-billing", null, null, null, 10)))).containsExactly("old-2", "old-1");
+
+        for (int index = 0; index < 4; index++) {
+            store.add(record("new-" + index));
+        }
+
+        assertThat(messages(store.query(query("remote-billing", null, null, null, 10)))).isEmpty();
+        assertThat(messages(store.query(query(null, null, null, "ERROR", 10)))).isEmpty();
+        assertThat(messages(store.query(query("remote-accounts", null, null, null, 10))))
+                .containsExactly("new-3", "new-2", "new-1", "new-0");
+    }
+
+    @Test
+    void keepsIndexesBoundedAcrossManyDistinctKeys() {
+        TelemetryStore store = new TelemetryStore(8);
+        for (int index = 0; index < 1_000; index++) {
+            store.add(record("event-" + index, "remote-accounts", "session-" + index, "REMOTE_LOAD_SUCCESS", "INFO"));
+            if (index % 10 == 0) {
+                store.query(query(null, "session-" + index, null, null, 1));
+            }
+        }
+
+        assertThat(messages(store.query(query(null, "session-999", null, null, 10)))).containsExactly("event-999");
+        assertThat(messages(store.query(query(null, "session-500", null, null, 10)))).isEmpty();
+    }
+
+    private static TelemetryStore.TelemetryQuery query(String remoteId, String sessionId, Long before, String level, int limit) {
+        return new TelemetryStore.TelemetryQuery(remoteId, sessionId, null, null, level, null, null, before, limit);
+    }
+
+    private static List<String> messages(TelemetryStore.TelemetryPage page) {
+        return page.records().stream().map(TelemetryController.TelemetryRecord::message).toList();
+    }
+}
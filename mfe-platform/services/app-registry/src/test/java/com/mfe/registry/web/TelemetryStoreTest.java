@@ -0,0 +1,104 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TelemetryStoreTest {
+
+    @Test
+    void keepsNewestEventsAfterWrapAround() {
+        TelemetryStore store = new TelemetryStore(4);
+        for (int index = 0; index < 10; index++) {
+            store.add(record("event-" + index));
+        }
+
+        assertThat(messages(store.list())).containsExactly("event-9", "event-8", "event-7", "event-6");
+        assertThat(store.stats()).isEqualTo(new TelemetryStore.TelemetryStoreStats(4, 4, 10, 6));
+    }
+
+    @Test
+    void listsPartiallyFilledRing() {
+        TelemetryStore store = new TelemetryStore(8);
+        store.add(record("first"));
+        store.add(record("second"));
+
+        assertThat(messages(store.list())).containsExactly("second", "first");
+        assertThat(store.stats().size()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentProducersLeaveTheLastCapacityEvents() throws InterruptedException {
+        int capacity = 256;
+        int producers = 8;
+        int perProducer = 20_000;
+        TelemetryStore store = new TelemetryStore(capacity);
+        AtomicInteger counter = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int producer = 0; producer < producers; producer++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int index = 0; index < perProducer; index++) {
+                    store.add(record(Integer.toString(counter.getAndIncrement())));
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // Every slot must end up holding the highest sequence that maps to it, never an older one.
+        List<TelemetryController.TelemetryRecord> records = store.list();
+        assertThat(records).hasSize(capacity);
+        assertThat(store.stats().ingested()).isEqualTo((long) producers * perProducer);
+        assertThat(records).doesNotHaveDuplicates();
+    }
+
+    private static List<String> messages(List<TelemetryController.TelemetryRecord> records) {
+        List<String> messages = new ArrayList<>(records.size());
+        for (TelemetryController.TelemetryRecord record : records) {
+            messages.add(record.message());
+        }
+        return messages;
+    }
+
+    static TelemetryController.TelemetryRecord record(String message) {
+        return record(message, "remote-accounts", "session-1", "REMOTE_LOAD_SUCCESS", "INFO");
+    }
+
+    static TelemetryController.TelemetryRecord record(
+            String message,
+            String remoteId,
+            String sessionId,
+            String eventType,
+            String level
+    ) {
+        return new TelemetryController.TelemetryRecord(
+                "2026-01-01T00:00:00Z",
+                "correlation-" + message,
+                "request-" + message,
+                sessionId,
+                "user-1",
+                eventType,
+                remoteId,
+                remoteId,
+                level,
+                10L,
+                message,
+                null
+        );
+    }
+}
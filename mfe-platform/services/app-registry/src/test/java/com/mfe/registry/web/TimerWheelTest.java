@@ -0,0 +1,81 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TimerWheelTest {
+
+    private final TimerWheel<String> wheel = new TimerWheel<>(10, 100, 0);
+    private final Map<String, Long> deadlines = new HashMap<>();
+    private final List<String> visited = new ArrayList<>();
+
+    @Test
+    void expiresAnEntryOnceItsDeadlineSlotIsReached() {
+        schedule("session-1", 50);
+
+        assertThat(advance(40)).isZero();
+        assertThat(visited).isEmpty();
+        assertThat(advance(60)).isEqualTo(1);
+        assertThat(visited).containsExactly("session-1");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void refilesAnEntryWhoseDeadlineMovedForward() {
+        schedule("session-1", 50);
+        deadlines.put("session-1", 120L);
+
+        assertThat(advance(60)).isZero();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(advance(130)).isEqualTo(1);
+        assertThat(visited).containsExactly("session-1", "session-1");
+    }
+
+    @Test
+    void carriesDeadlinesBeyondTheHorizonAroundTheWheel() {
+        schedule("session-1", 1_000);
+
+        assertThat(advance(990)).isZero();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(advance(1_010)).isEqualTo(1);
+        assertThat(visited).hasSizeGreaterThan(1).containsOnly("session-1");
+    }
+
+    @Test
+    void filesPastDeadlinesIntoTheNextTick() {
+        wheel.advance(200, entry -> -1);
+        schedule("session-1", 0);
+
+        assertThat(advance(205)).isZero();
+        assertThat(advance(210)).isEqualTo(1);
+    }
+
+    @Test
+    void expiresOnlyTheEntriesThatAreDue() {
+        schedule("session-1", 30);
+        schedule("session-2", 30);
+        schedule("session-3", 80);
+
+        assertThat(advance(50)).isEqualTo(2);
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(advance(90)).isEqualTo(1);
+    }
+
+    private void schedule(String entry, long deadline) {
+        deadlines.put(entry, deadline);
+        wheel.schedule(entry, deadline);
+    }
+
+    private int advance(long now) {
+        return wheel.advance(now, entry -> {
+            visited.add(entry);
+            long deadline = deadlines.get(entry);
+            return deadline <= now ? -1 : deadline;
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.mfe.registry.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketLimiterTest {
+
+    private static final long START = TimeUnit.SECONDS.toNanos(100);
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void allowsBurstThenReportsWaitUntilNextToken() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(10, 3, 16);
+
+        assertThat(limiter.tryAcquire("session-1", START)).isZero();
+        assertThat(limiter.tryAcquire("session-1", START)).isZero();
+        assertThat(limiter.tryAcquire("session-1", START)).isZero();
+        assertThat(limiter.tryAcquire("session-1", START)).isEqualTo(INTERVAL);
+        assertThat(limiter.tryAcquire("session-1", START + INTERVAL / 2)).isEqualTo(INTERVAL / 2);
+    }
+
+    @Test
+    void refillsAtTheConfiguredRate() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(10, 3, 16);
+        for (int index = 0; index < 3; index++) {
+            limiter.tryAcquire("session-1", START);
+        }
+
+        assertThat(limiter.tryAcquire("session-1", START + INTERVAL)).isZero();
+        assertThat(limiter.tryAcquire("session-1", START + INTERVAL)).isPositive();
+        assertThat(limiter.tryAcquire("session-2", START + INTERVAL)).isZero();
+    }
+
+    @Test
+    void keysBeyondTheLimitShareOneBucket() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(10, 2, 2);
+        limiter.tryAcquire("session-a", START);
+        limiter.tryAcquire("session-b", START);
+
+        assertThat(limiter.tryAcquire("session-c", START)).isZero();
+        assertThat(limiter.tryAcquire("session-c", START)).isZero();
+        assertThat(limiter.tryAcquire("session-d", START)).isEqualTo(INTERVAL);
+        assertThat(limiter.size()).isEqualTo(3);
+    }
+
+    @Test
+    void evictsOnlyBucketsThatHaveRefilled() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(10, 3, 16);
+        limiter.tryAcquire("busy", START);
+        limiter.tryAcquire("busy", START);
+        limiter.tryAcquire("idle", START);
+
+        assertThat(limiter.evictIdle(START + INTERVAL)).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.evictIdle(START + 2 * INTERVAL)).isEqualTo(1);
+        assertThat(limiter.size()).isZero();
+    }
+}